@@ -16,30 +16,189 @@
 
 package com.palantir.config.crypto;
 
+import com.google.common.base.Throwables;
 import com.palantir.config.crypto.jackson.Substitutor;
 import com.palantir.config.crypto.util.StringSubstitutionException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class DecryptingVariableSubstitutor implements Substitutor {
 
-    private static final Pattern PATTERN = Pattern.compile("\\$\\{(enc:.*?)}");
+    private static final String VARIABLE_PREFIX = "${";
+    private static final String ENCRYPTED_VARIABLE_PREFIX = VARIABLE_PREFIX + "enc:";
 
-    public DecryptingVariableSubstitutor() {}
+    private final Function<String, String> decrypter;
+    private final Function<EncryptedValue, SecretBuffer> secretBufferDecrypter;
 
+    public DecryptingVariableSubstitutor() {
+        this(
+                encryptedValue -> KeyFileUtils.decryptUsingDefaultKeys(EncryptedValue.fromString(encryptedValue)),
+                KeyFileUtils::decryptToSecretBufferUsingDefaultKeys);
+    }
+
+    /**
+     * Creates a substitutor that decrypts with the default keys through the provided cache, so that variables which
+     * were already decrypted, for example before a configuration reload, are not decrypted again. Values decrypted
+     * into a {@link SecretBuffer} are never cached.
+     */
+    public DecryptingVariableSubstitutor(DecryptionCache cache) {
+        this(
+                encryptedValue ->
+                        KeyFileUtils.decryptUsingDefaultKeys(EncryptedValue.fromString(encryptedValue), cache),
+                KeyFileUtils::decryptToSecretBufferUsingDefaultKeys);
+    }
+
+    /**
+     * Creates a substitutor that decrypts with the decryption key of the provided key pair, without reading key files.
+     */
+    public DecryptingVariableSubstitutor(KeyPair keyPair) {
+        this(
+                encryptedValue -> EncryptedValue.fromString(encryptedValue).decrypt(keyPair.decryptionKey()),
+                value -> value.decryptToSecretBuffer(keyPair.decryptionKey()));
+    }
+
+    /**
+     * Creates a substitutor that decrypts with the decryption key of the key pair returned by the supplier, which is
+     * called for every variable. Suppliers that load keys should memoize them, for example with
+     * {@link com.google.common.base.Suppliers#memoize}.
+     */
+    public DecryptingVariableSubstitutor(Supplier<KeyPair> keyPairs) {
+        this(
+                encryptedValue -> EncryptedValue.fromString(encryptedValue)
+                        .decrypt(keyPairs.get().decryptionKey()),
+                value -> value.decryptToSecretBuffer(keyPairs.get().decryptionKey()));
+    }
+
+    /**
+     * Creates a substitutor that decrypts each variable with the key from the key ring that encrypted it. See
+     * {@link KeyRing#decrypt(EncryptedValue)}.
+     */
+    public DecryptingVariableSubstitutor(KeyRing keyRing) {
+        this(
+                encryptedValue -> keyRing.decrypt(EncryptedValue.fromString(encryptedValue)),
+                keyRing::decryptToSecretBuffer);
+    }
+
+    private DecryptingVariableSubstitutor(
+            Function<String, String> decrypter, Function<EncryptedValue, SecretBuffer> secretBufferDecrypter) {
+        this.decrypter = decrypter;
+        this.secretBufferDecrypter = secretBufferDecrypter;
+    }
+
+    /**
+     * Replaces every encrypted variable ({@code ${enc:...}}) in the source with its plaintext. Returns the source
+     * itself if it contains no encrypted variables.
+     */
     @Override
     public String replace(String source) {
-        if (source != null && source.contains("${")) {
-            return PATTERN.matcher(source).replaceAll(matchResult -> {
-                String encryptedValue = matchResult.group(1);
-                try {
-                    return Matcher.quoteReplacement(
-                            KeyFileUtils.decryptUsingDefaultKeys(EncryptedValue.fromString(encryptedValue)));
-                } catch (RuntimeException e) {
-                    throw new StringSubstitutionException(e, encryptedValue);
+        if (source == null) {
+            return null;
+        }
+        int start = source.indexOf(ENCRYPTED_VARIABLE_PREFIX);
+        if (start < 0) {
+            return source;
+        }
+        StringBuilder result = null;
+        int copied = 0;
+        while (start >= 0) {
+            int end = variableEnd(source, start);
+            if (end < 0) {
+                start = source.indexOf(ENCRYPTED_VARIABLE_PREFIX, start + 1);
+                continue;
+            }
+            if (result == null) {
+                result = new StringBuilder(source.length());
+            }
+            String encryptedValue = source.substring(start + VARIABLE_PREFIX.length(), end);
+            try {
+                result.append(source, copied, start).append(decrypter.apply(encryptedValue));
+            } catch (RuntimeException e) {
+                throw new StringSubstitutionException(e, encryptedValue);
+            }
+            copied = end + 1;
+            start = source.indexOf(ENCRYPTED_VARIABLE_PREFIX, copied);
+        }
+        if (result == null) {
+            return source;
+        }
+        return result.append(source, copied, source.length()).toString();
+    }
+
+    /**
+     * Returns the index of the brace that closes the encrypted variable starting at the provided index, or -1 if the
+     * variable is not closed on the same line.
+     */
+    private static int variableEnd(String source, int start) {
+        for (int i = start + ENCRYPTED_VARIABLE_PREFIX.length(); i < source.length(); i++) {
+            char ch = source.charAt(i);
+            if (ch == '}') {
+                return i;
+            }
+            if (ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Starts decrypting every distinct encrypted variable that occurs in the provided sources on the executor, and
+     * returns a substitutor that replaces variables with the results, waiting for them as needed. A value that fails
+     * to decrypt is reported when the returned substitutor reaches it, with the same exception {@link #replace} would
+     * have thrown.
+     */
+    public DecryptingVariableSubstitutor decryptAhead(Iterable<String> sources, Executor executor) {
+        Map<String, CompletableFuture<String>> decryptions = new HashMap<>();
+        for (String source : sources) {
+            int start = source == null ? -1 : source.indexOf(ENCRYPTED_VARIABLE_PREFIX);
+            while (start >= 0) {
+                int end = variableEnd(source, start);
+                if (end >= 0) {
+                    decryptions.computeIfAbsent(
+                            source.substring(start + VARIABLE_PREFIX.length(), end),
+                            encryptedValue ->
+                                    CompletableFuture.supplyAsync(() -> decrypter.apply(encryptedValue), executor));
                 }
-            });
+                start = source.indexOf(ENCRYPTED_VARIABLE_PREFIX, end >= 0 ? end + 1 : start + 1);
+            }
+        }
+        return new DecryptingVariableSubstitutor(
+                encryptedValue -> {
+                    CompletableFuture<String> decryption = decryptions.get(encryptedValue);
+                    if (decryption == null) {
+                        return decrypter.apply(encryptedValue);
+                    }
+                    try {
+                        return decryption.join();
+                    } catch (CompletionException e) {
+                        Throwables.throwIfUnchecked(e.getCause());
+                        throw new SafeRuntimeException(e.getCause());
+                    }
+                },
+                secretBufferDecrypter);
+    }
+
+    /**
+     * Decrypts a single encrypted value, given either as a variable ({@code ${enc:...}}) or as a bare value
+     * ({@code enc:...}), into a {@link SecretBuffer} using the same keys as {@link #replace(String)}. Consumers that
+     * can accept the plaintext as bytes should prefer this to {@link #replace(String)}, which creates a String for
+     * every secret. The caller must close the returned buffer.
+     */
+    public SecretBuffer decryptToSecretBuffer(String value) {
+        String encryptedValue =
+                value.startsWith(ENCRYPTED_VARIABLE_PREFIX) && variableEnd(value, 0) == value.length() - 1
+                        ? value.substring(VARIABLE_PREFIX.length(), value.length() - 1)
+                        : value;
+        try {
+            return secretBufferDecrypter.apply(EncryptedValue.fromString(encryptedValue));
+        } catch (RuntimeException e) {
+            throw new StringSubstitutionException(e, encryptedValue);
         }
-        return source;
     }
 }
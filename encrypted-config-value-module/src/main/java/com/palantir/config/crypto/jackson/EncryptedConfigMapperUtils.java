@@ -16,30 +16,177 @@
 
 package com.palantir.config.crypto.jackson;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Throwables;
 import com.palantir.config.crypto.DecryptingVariableSubstitutor;
+import com.palantir.config.crypto.util.StringSubstitutionException;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 public final class EncryptedConfigMapperUtils {
-    private static final JsonNodeVisitor<JsonNode> JSON_NODE_STRING_REPLACER =
-            new JsonNodeStringReplacer(new DecryptingVariableSubstitutor());
+    private static final DecryptingVariableSubstitutor SUBSTITUTOR = new DecryptingVariableSubstitutor();
 
     private EncryptedConfigMapperUtils() {}
 
     public static <T> T getConfig(File configFile, Class<T> clazz, ObjectMapper mapper) throws IOException {
-        return substitute(clazz, mapper, mapper.readValue(configFile, JsonNode.class));
+        return getConfig(configFile, clazz, mapper, SUBSTITUTOR);
     }
 
     public static <T> T getConfig(String configFileContent, Class<T> clazz, ObjectMapper mapper) throws IOException {
-        return substitute(clazz, mapper, mapper.readValue(configFileContent, JsonNode.class));
+        return getConfig(configFileContent, clazz, mapper, SUBSTITUTOR);
     }
 
-    private static <T> T substitute(Class<T> clazz, ObjectMapper mapper, JsonNode configNode)
+    /**
+     * Like {@link #getConfig(File, Class, ObjectMapper)}, but decrypts values with the provided substitutor, for
+     * example one created with keys that were already loaded, rather than with the default key files.
+     */
+    public static <T> T getConfig(
+            File configFile, Class<T> clazz, ObjectMapper mapper, DecryptingVariableSubstitutor substitutor)
+            throws IOException {
+        return substitute(clazz, mapper, mapper.readValue(configFile, JsonNode.class), substitutor);
+    }
+
+    /**
+     * Like {@link #getConfig(String, Class, ObjectMapper)}, but decrypts values with the provided substitutor.
+     */
+    public static <T> T getConfig(
+            String configFileContent, Class<T> clazz, ObjectMapper mapper, DecryptingVariableSubstitutor substitutor)
+            throws IOException {
+        return substitute(clazz, mapper, mapper.readValue(configFileContent, JsonNode.class), substitutor);
+    }
+
+    /**
+     * Like {@link #getConfig(File, Class, ObjectMapper)}, but decrypts all encrypted values in the config concurrently
+     * on the provided executor (for example {@link java.util.concurrent.ForkJoinPool#commonPool()}) before assembling
+     * the substituted config. Failures are reported with the same {@link StringSubstitutionException} paths.
+     */
+    public static <T> T getConfig(File configFile, Class<T> clazz, ObjectMapper mapper, Executor executor)
+            throws IOException {
+        return getConfig(configFile, clazz, mapper, SUBSTITUTOR, executor);
+    }
+
+    /**
+     * Like {@link #getConfig(File, Class, ObjectMapper, Executor)}, but decrypts values with the provided substitutor.
+     */
+    public static <T> T getConfig(
+            File configFile,
+            Class<T> clazz,
+            ObjectMapper mapper,
+            DecryptingVariableSubstitutor substitutor,
+            Executor executor)
+            throws IOException {
+        return substitute(clazz, mapper, mapper.readValue(configFile, JsonNode.class), substitutor, executor);
+    }
+
+    /**
+     * Like {@link #getConfig(String, Class, ObjectMapper)}, but decrypts all encrypted values in the config
+     * concurrently on the provided executor before assembling the substituted config.
+     */
+    public static <T> T getConfig(String configFileContent, Class<T> clazz, ObjectMapper mapper, Executor executor)
+            throws IOException {
+        return getConfig(configFileContent, clazz, mapper, SUBSTITUTOR, executor);
+    }
+
+    /**
+     * Like {@link #getConfig(String, Class, ObjectMapper, Executor)}, but decrypts values with the provided
+     * substitutor.
+     */
+    public static <T> T getConfig(
+            String configFileContent,
+            Class<T> clazz,
+            ObjectMapper mapper,
+            DecryptingVariableSubstitutor substitutor,
+            Executor executor)
+            throws IOException {
+        return substitute(clazz, mapper, mapper.readValue(configFileContent, JsonNode.class), substitutor, executor);
+    }
+
+    /**
+     * Like {@link #getConfig(File, Class, ObjectMapper)}, but substitutes encrypted values as they are read from the
+     * file and deserializes the config directly from the parser, without building an intermediate tree.
+     */
+    public static <T> T getConfigStreaming(File configFile, Class<T> clazz, ObjectMapper mapper) throws IOException {
+        return getConfigStreaming(configFile, clazz, mapper, SUBSTITUTOR);
+    }
+
+    /**
+     * Like {@link #getConfigStreaming(File, Class, ObjectMapper)}, but decrypts values with the provided substitutor.
+     */
+    public static <T> T getConfigStreaming(
+            File configFile, Class<T> clazz, ObjectMapper mapper, DecryptingVariableSubstitutor substitutor)
+            throws IOException {
+        return substituteStreaming(clazz, mapper, mapper.createParser(configFile), substitutor);
+    }
+
+    /**
+     * Like {@link #getConfig(String, Class, ObjectMapper)}, but substitutes encrypted values as they are read and
+     * deserializes the config directly from the parser, without building an intermediate tree.
+     */
+    public static <T> T getConfigStreaming(String configFileContent, Class<T> clazz, ObjectMapper mapper)
+            throws IOException {
+        return getConfigStreaming(configFileContent, clazz, mapper, SUBSTITUTOR);
+    }
+
+    /**
+     * Like {@link #getConfigStreaming(String, Class, ObjectMapper)}, but decrypts values with the provided
+     * substitutor.
+     */
+    public static <T> T getConfigStreaming(
+            String configFileContent, Class<T> clazz, ObjectMapper mapper, DecryptingVariableSubstitutor substitutor)
+            throws IOException {
+        return substituteStreaming(clazz, mapper, mapper.createParser(configFileContent), substitutor);
+    }
+
+    private static <T> T substituteStreaming(
+            Class<T> clazz, ObjectMapper mapper, JsonParser parser, DecryptingVariableSubstitutor substitutor)
+            throws IOException {
+        try (JsonParser substitutingParser = new SubstitutingJsonParser(parser, substitutor)) {
+            return mapper.readValue(substitutingParser, clazz);
+        } catch (JsonMappingException e) {
+            // deserializers wrap exceptions thrown while reading values, but substitution failures are reported as is
+            for (Throwable cause : Throwables.getCausalChain(e)) {
+                if (cause instanceof StringSubstitutionException) {
+                    throw (StringSubstitutionException) cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    private static <T> T substitute(
+            Class<T> clazz, ObjectMapper mapper, JsonNode configNode, DecryptingVariableSubstitutor substitutor)
             throws JsonProcessingException {
-        JsonNode substitutedNode = JsonNodeVisitors.dispatch(configNode, JSON_NODE_STRING_REPLACER);
+        JsonNode substitutedNode = JsonNodeVisitors.dispatch(configNode, JsonNodeStringReplacer.inPlace(substitutor));
         return mapper.treeToValue(substitutedNode, clazz);
     }
+
+    private static <T> T substitute(
+            Class<T> clazz,
+            ObjectMapper mapper,
+            JsonNode configNode,
+            DecryptingVariableSubstitutor substitutor,
+            Executor executor)
+            throws JsonProcessingException {
+        List<String> texts = new ArrayList<>();
+        collectTexts(configNode, texts);
+        JsonNodeVisitor<JsonNode> replacer = JsonNodeStringReplacer.inPlace(substitutor.decryptAhead(texts, executor));
+        return mapper.treeToValue(JsonNodeVisitors.dispatch(configNode, replacer), clazz);
+    }
+
+    private static void collectTexts(JsonNode node, List<String> texts) {
+        if (node.isTextual()) {
+            texts.add(node.textValue());
+        } else if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                collectTexts(child, texts);
+            }
+        }
+    }
 }
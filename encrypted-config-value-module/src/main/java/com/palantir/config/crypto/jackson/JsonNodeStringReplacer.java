@@ -30,27 +30,54 @@ import com.palantir.config.crypto.util.StringSubstitutionException;
 import java.util.Iterator;
 import java.util.Map;
 
+/**
+ * Replaces the text values of a tree with their substitutions.
+ *
+ * By default the provided tree is not modified: nodes are copied only on the paths that lead to changed text values,
+ * and any subtree without changes, including the whole tree, is returned as is. Callers that own the tree can use
+ * {@link #inPlace(Substitutor)} to replace the values without copying any nodes.
+ */
 public final class JsonNodeStringReplacer implements JsonNodeVisitor<JsonNode> {
 
     private final Substitutor substitutor;
+    private final boolean inPlace;
 
     public JsonNodeStringReplacer(Substitutor substitutor) {
+        this(substitutor, false);
+    }
+
+    private JsonNodeStringReplacer(Substitutor substitutor, boolean inPlace) {
         this.substitutor = substitutor;
+        this.inPlace = inPlace;
+    }
+
+    /**
+     * Returns a replacer that modifies the containers of the provided tree instead of copying them, and so returns
+     * the tree itself.
+     */
+    public static JsonNodeStringReplacer inPlace(Substitutor substitutor) {
+        return new JsonNodeStringReplacer(substitutor, true);
     }
 
     @Override
     public JsonNode visitArray(ArrayNode arrayNode) {
-        ArrayNode newArrayNode = arrayNode.arrayNode();
-        int index = 0;
-        for (JsonNode node : arrayNode) {
+        ArrayNode result = arrayNode;
+        for (int index = 0; index < arrayNode.size(); index++) {
+            JsonNode node = arrayNode.get(index);
+            JsonNode replaced;
             try {
-                newArrayNode.add(JsonNodeVisitors.dispatch(node, this));
+                replaced = JsonNodeVisitors.dispatch(node, this);
             } catch (StringSubstitutionException e) {
                 throw e.extend(index);
             }
-            index++;
+            if (replaced != node) {
+                if (result == arrayNode && !inPlace) {
+                    result = arrayNode.arrayNode(arrayNode.size()).addAll(arrayNode);
+                }
+                result.set(index, replaced);
+            }
         }
-        return newArrayNode;
+        return result;
     }
 
     @Override
@@ -80,19 +107,33 @@ public final class JsonNodeStringReplacer implements JsonNodeVisitor<JsonNode> {
 
     @Override
     public JsonNode visitObject(ObjectNode objectNode) {
-        ObjectNode newObjectNode = objectNode.objectNode();
+        ObjectNode result = objectNode;
         Iterator<Map.Entry<String, JsonNode>> entryIterator = objectNode.fields();
         while (entryIterator.hasNext()) {
             Map.Entry<String, JsonNode> entry = entryIterator.next();
             String field = entry.getKey();
             JsonNode node = entry.getValue();
+            JsonNode replaced;
             try {
-                newObjectNode.set(field, JsonNodeVisitors.dispatch(node, this));
+                replaced = JsonNodeVisitors.dispatch(node, this);
             } catch (StringSubstitutionException e) {
                 throw e.extend(field);
             }
+            if (replaced != node) {
+                if (inPlace) {
+                    // replacing the value of an existing field does not invalidate the iterator
+                    entry.setValue(replaced);
+                } else {
+                    if (result == objectNode) {
+                        // copying preserves the field order, and replacing a field keeps its position
+                        result = objectNode.objectNode();
+                        result.setAll(objectNode);
+                    }
+                    result.set(field, replaced);
+                }
+            }
         }
-        return newObjectNode;
+        return result;
     }
 
     @Override
@@ -103,6 +144,8 @@ public final class JsonNodeStringReplacer implements JsonNodeVisitor<JsonNode> {
 
     @Override
     public JsonNode visitText(TextNode textNode) {
-        return TextNode.valueOf(substitutor.replace(textNode.textValue()));
+        String text = textNode.textValue();
+        String replaced = substitutor.replace(text);
+        return replaced.equals(text) ? textNode : TextNode.valueOf(replaced);
     }
 }
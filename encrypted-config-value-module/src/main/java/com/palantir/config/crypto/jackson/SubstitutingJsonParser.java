@@ -0,0 +1,146 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.jackson;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.palantir.config.crypto.util.StringSubstitutionException;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A parser that replaces string values with their substitutions as they are read, so that values can be deserialized
+ * straight from the underlying parser without an intermediate tree. Values are only substituted when a deserializer
+ * reads them, at most once per token.
+ *
+ * A {@link StringSubstitutionException} thrown by the substitutor is extended with the path of the value in the
+ * document, in the same form as {@link JsonNodeStringReplacer} reports it.
+ */
+public final class SubstitutingJsonParser extends JsonParserDelegate {
+
+    private final Substitutor substitutor;
+    private String substitutedText;
+
+    public SubstitutingJsonParser(JsonParser delegate, Substitutor substitutor) {
+        super(delegate);
+        this.substitutor = substitutor;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        substitutedText = null;
+        return super.nextToken();
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        substitutedText = null;
+        return super.nextValue();
+    }
+
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        substitutedText = null;
+        super.skipChildren();
+        return this;
+    }
+
+    @Override
+    public void clearCurrentToken() {
+        substitutedText = null;
+        super.clearCurrentToken();
+    }
+
+    @Override
+    public String getText() throws IOException {
+        return hasToken(JsonToken.VALUE_STRING) ? substitutedText() : super.getText();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+        return hasToken(JsonToken.VALUE_STRING) ? substitutedText() : super.getValueAsString();
+    }
+
+    @Override
+    public String getValueAsString(String defaultValue) throws IOException {
+        return hasToken(JsonToken.VALUE_STRING) ? substitutedText() : super.getValueAsString(defaultValue);
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return !hasToken(JsonToken.VALUE_STRING) && super.hasTextCharacters();
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        return hasToken(JsonToken.VALUE_STRING) ? substitutedText().toCharArray() : super.getTextCharacters();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        return hasToken(JsonToken.VALUE_STRING) ? substitutedText().length() : super.getTextLength();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        return hasToken(JsonToken.VALUE_STRING) ? 0 : super.getTextOffset();
+    }
+
+    @Override
+    public int getText(Writer writer) throws IOException {
+        if (!hasToken(JsonToken.VALUE_STRING)) {
+            return super.getText(writer);
+        }
+        String text = substitutedText();
+        writer.write(text);
+        return text.length();
+    }
+
+    @Override
+    public byte[] getBinaryValue(Base64Variant base64Variant) throws IOException {
+        return hasToken(JsonToken.VALUE_STRING)
+                ? base64Variant.decode(substitutedText())
+                : super.getBinaryValue(base64Variant);
+    }
+
+    private String substitutedText() throws IOException {
+        if (substitutedText == null) {
+            try {
+                substitutedText = substitutor.replace(super.getText());
+            } catch (StringSubstitutionException e) {
+                throw extendWithPath(e, getParsingContext());
+            }
+        }
+        return substitutedText;
+    }
+
+    private static StringSubstitutionException extendWithPath(
+            StringSubstitutionException exception, JsonStreamContext context) {
+        StringSubstitutionException extended = exception;
+        for (JsonStreamContext current = context; current != null && !current.inRoot(); current = current.getParent()) {
+            if (current.inObject()) {
+                extended = extended.extend(current.getCurrentName());
+            } else if (current.inArray()) {
+                extended = extended.extend(current.getCurrentIndex());
+            }
+        }
+        return extended;
+    }
+}
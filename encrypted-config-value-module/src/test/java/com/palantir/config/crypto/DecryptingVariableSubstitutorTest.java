@@ -17,6 +17,7 @@
 package com.palantir.config.crypto;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 import com.palantir.config.crypto.algorithm.Algorithm;
@@ -25,6 +26,8 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import net.jqwik.api.Assume;
 import net.jqwik.api.ForAll;
 import net.jqwik.api.Property;
@@ -78,6 +81,14 @@ public final class DecryptingVariableSubstitutorTest {
         assertThat(substitutor.replace("${abc}")).isEqualTo("${abc}");
     }
 
+    @Test
+    public void sourcesWithoutEncryptedVariablesAreReturnedAsIs() {
+        String source = "${abc} ${enc:unclosed\n} ${enc:";
+        assertThat(substitutor.replace(source)).isSameAs(source);
+        String encrypted = "${" + encrypt("abc") + "}";
+        assertThat(substitutor.replace("${x}${enc:\n}" + encrypted + "}")).isEqualTo("${x}${enc:\n}abc}");
+    }
+
     @Test
     public void variableIsDecrypted() {
         assertThat(substitutor.replace("${" + encrypt("abc") + "}")).isEqualTo("abc");
@@ -105,6 +116,64 @@ public final class DecryptingVariableSubstitutorTest {
         assertThat(substitutor.replace(source)).isEqualTo("abc:${enc:test}");
     }
 
+    @Test
+    public void decryptsWithProvidedKeys() {
+        KeyPair aesKeyPair = Algorithm.AES.newKeyPair();
+        String source = "${" + Algorithm.AES.newEncrypter().encrypt(aesKeyPair.encryptionKey(), "abc") + "}";
+
+        assertThat(new DecryptingVariableSubstitutor(aesKeyPair).replace(source))
+                .isEqualTo("abc");
+        assertThat(new DecryptingVariableSubstitutor(() -> aesKeyPair).replace(source))
+                .isEqualTo("abc");
+        assertThat(new DecryptingVariableSubstitutor(KeyRing.of(KEY_PAIR.decryptionKey(), aesKeyPair.decryptionKey()))
+                        .replace(source))
+                .isEqualTo("abc");
+        assertThatThrownBy(() -> new DecryptingVariableSubstitutor(KEY_PAIR).replace(source))
+                .isInstanceOf(StringSubstitutionException.class);
+    }
+
+    @Test
+    public void decryptsThroughCache() {
+        DecryptionCache cache = DecryptionCache.create(1024, Duration.ofMinutes(1));
+        DecryptingVariableSubstitutor cachingSubstitutor = new DecryptingVariableSubstitutor(cache);
+        String source = "${" + encrypt("abc") + "}";
+
+        assertThat(cachingSubstitutor.replace(source)).isEqualTo("abc");
+        assertThat(cachingSubstitutor.replace(source)).isEqualTo("abc");
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void decryptsToSecretBuffer() {
+        String encrypted = encrypt("secret");
+        for (String value : List.of(encrypted, "${" + encrypted + "}")) {
+            try (SecretBuffer buffer = substitutor.decryptToSecretBuffer(value)) {
+                assertThat(buffer.toByteArray()).isEqualTo("secret".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertThatThrownBy(() -> substitutor.decryptToSecretBuffer("${enc:invalid-contents}"))
+                .isInstanceOf(StringSubstitutionException.class);
+    }
+
+    @Test
+    public void decryptsToSecretBufferWithProvidedKeys() {
+        KeyPair aesKeyPair = Algorithm.AES.newKeyPair();
+        String source = "${" + Algorithm.AES.newEncrypter().encrypt(aesKeyPair.encryptionKey(), "abc") + "}";
+        byte[] expected = "abc".getBytes(StandardCharsets.UTF_8);
+
+        for (DecryptingVariableSubstitutor provided : List.of(
+                new DecryptingVariableSubstitutor(aesKeyPair),
+                new DecryptingVariableSubstitutor(() -> aesKeyPair),
+                new DecryptingVariableSubstitutor(KeyRing.of(KEY_PAIR.decryptionKey(), aesKeyPair.decryptionKey())))) {
+            try (SecretBuffer buffer = provided.decryptToSecretBuffer(source)) {
+                assertThat(buffer.toByteArray()).isEqualTo(expected);
+            }
+        }
+        assertThatThrownBy(() -> substitutor.decryptToSecretBuffer(source))
+                .isInstanceOf(StringSubstitutionException.class);
+    }
+
     @Property(tries = 10_000)
     void propertyTestValues(@ForAll @CharRange(from = 0, to = 1024) @StringLength(max = 100) String plaintext)
             throws IOException {
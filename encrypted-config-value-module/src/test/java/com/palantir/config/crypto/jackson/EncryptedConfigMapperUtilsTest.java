@@ -17,17 +17,25 @@
 package com.palantir.config.crypto.jackson;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.palantir.config.crypto.DecryptingVariableSubstitutor;
 import com.palantir.config.crypto.KeyFileUtils;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.util.StringSubstitutionException;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.immutables.value.Value;
 import org.junit.jupiter.api.Test;
 
@@ -77,6 +85,88 @@ public class EncryptedConfigMapperUtilsTest {
         });
     }
 
+    @Test
+    public final void testCanDecryptValueInConfigWithProvidedSubstitutor() throws IOException {
+        DecryptingVariableSubstitutor substitutor =
+                new DecryptingVariableSubstitutor(KeyFileUtils.keyPairFromPath(Path.of("src/test/resources/test.key")));
+        TestConfig config = EncryptedConfigMapperUtils.getConfig(CONFIG_FILE, TestConfig.class, MAPPER, substitutor);
+
+        assertThat(config.getEncrypted()).isEqualTo("value");
+        assertThat(config.getPojoWithEncryptedValues().getPassword()).isEqualTo("value");
+    }
+
+    @Test
+    public final void testCanDecryptValueInConfigWhileStreaming() throws IOException {
+        TestConfig config = EncryptedConfigMapperUtils.getConfigStreaming(CONFIG_FILE, TestConfig.class, MAPPER);
+
+        assertThat(config.getUnencrypted()).isEqualTo("value");
+        assertThat(config.getEncrypted()).isEqualTo("value");
+        assertThat(config.getEncryptedWithSingleQuote()).isEqualTo("don't use quotes");
+        assertThat(config.getEncryptedWithDoubleQuote()).isEqualTo("double quote is \"");
+        assertThat(config.getEncryptedMalformedYaml()).isEqualTo("[oh dear");
+
+        assertThat(config.getArrayWithSomeEncryptedValues())
+                .containsExactly("value", "value", "other value", "[oh dear");
+        assertThat(config.getPojoWithEncryptedValues()).satisfies(person -> {
+            assertThat(person.getUsername()).isEqualTo("some-user");
+            assertThat(person.getPassword()).isEqualTo("value");
+        });
+    }
+
+    @Test
+    public final void testCanDecryptValueInConfigInParallel() throws IOException {
+        TestConfig config =
+                EncryptedConfigMapperUtils.getConfig(CONFIG_FILE, TestConfig.class, MAPPER, ForkJoinPool.commonPool());
+
+        assertThat(config.getEncrypted()).isEqualTo("value");
+        assertThat(config.getEncryptedWithDoubleQuote()).isEqualTo("double quote is \"");
+        assertThat(config.getArrayWithSomeEncryptedValues())
+                .containsExactly("value", "value", "other value", "[oh dear");
+        assertThat(config.getPojoWithEncryptedValues().getPassword()).isEqualTo("value");
+    }
+
+    @Test
+    public final void testCanDecryptValueInConfigInParallelWithProvidedSubstitutor() throws IOException {
+        KeyPair keyPair = Algorithm.AES.newKeyPair();
+        String encrypted = Algorithm.AES
+                .newEncrypter()
+                .encrypt(keyPair.encryptionKey(), "value")
+                .toString();
+        String configFileContent = "outer:\n  - ${" + encrypted + "}\n";
+
+        JsonNode config = EncryptedConfigMapperUtils.getConfig(
+                configFileContent,
+                JsonNode.class,
+                MAPPER,
+                new DecryptingVariableSubstitutor(keyPair),
+                ForkJoinPool.commonPool());
+
+        assertThat(config.get("outer").get(0).textValue()).isEqualTo("value");
+    }
+
+    @Test
+    public final void testParallelFailuresReportSamePath() {
+        String configFileContent = "outer:\n  inner:\n    - value\n    - ${enc:invalid-contents}\n";
+
+        assertThatThrownBy(() -> EncryptedConfigMapperUtils.getConfig(
+                        configFileContent, JsonNode.class, MAPPER, ForkJoinPool.commonPool()))
+                .isInstanceOfSatisfying(StringSubstitutionException.class, e -> {
+                    assertThat(e.getField()).isEqualTo("outer.inner[1]");
+                    assertThat(e.getValue()).isEqualTo("enc:invalid-contents");
+                });
+        assertThatThrownBy(() -> EncryptedConfigMapperUtils.getConfig(configFileContent, JsonNode.class, MAPPER))
+                .isInstanceOfSatisfying(StringSubstitutionException.class, e -> assertThat(e.getField())
+                        .isEqualTo("outer.inner[1]"));
+        assertThatThrownBy(
+                        () -> EncryptedConfigMapperUtils.getConfigStreaming(configFileContent, JsonNode.class, MAPPER))
+                .isInstanceOfSatisfying(StringSubstitutionException.class, e -> assertThat(e.getField())
+                        .isEqualTo("outer.inner[1]"));
+        assertThatThrownBy(() -> EncryptedConfigMapperUtils.getConfigStreaming(
+                        "encrypted: ${enc:invalid-contents}\n", TestConfig.class, MAPPER))
+                .isInstanceOfSatisfying(StringSubstitutionException.class, e -> assertThat(e.getField())
+                        .isEqualTo("encrypted"));
+    }
+
     @Value.Immutable
     @JsonSerialize(as = ImmutablePerson.class)
     @JsonDeserialize(as = ImmutablePerson.class)
@@ -0,0 +1,59 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+public class JsonNodeStringReplacerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Substitutor SUBSTITUTOR = source -> source.equals("secret") ? "plaintext" : source;
+
+    @Test
+    public void copiesOnlyThePathsToChangedValues() throws Exception {
+        JsonNode tree = MAPPER.readTree("{\"a\":{\"b\":[\"x\",\"secret\"]},\"c\":{\"d\":\"y\"},\"e\":1}");
+        JsonNode original = tree.deepCopy();
+
+        JsonNode replaced = JsonNodeVisitors.dispatch(tree, new JsonNodeStringReplacer(SUBSTITUTOR));
+
+        assertThat(tree).isEqualTo(original);
+        assertThat(replaced).isNotSameAs(tree);
+        assertThat(replaced.toString()).isEqualTo("{\"a\":{\"b\":[\"x\",\"plaintext\"]},\"c\":{\"d\":\"y\"},\"e\":1}");
+        assertThat(replaced.get("c")).isSameAs(tree.get("c"));
+        assertThat(replaced.get("a").get("b").get(0))
+                .isSameAs(tree.get("a").get("b").get(0));
+
+        JsonNode unchanged = tree.get("c");
+        assertThat(JsonNodeVisitors.dispatch(unchanged, new JsonNodeStringReplacer(SUBSTITUTOR)))
+                .isSameAs(unchanged);
+    }
+
+    @Test
+    public void replacesInPlace() throws Exception {
+        JsonNode tree = MAPPER.readTree("{\"a\":{\"b\":[\"x\",\"secret\"]},\"c\":\"secret\"}");
+        JsonNode array = tree.get("a").get("b");
+
+        JsonNode replaced = JsonNodeVisitors.dispatch(tree, JsonNodeStringReplacer.inPlace(SUBSTITUTOR));
+
+        assertThat(replaced).isSameAs(tree);
+        assertThat(tree.get("a").get("b")).isSameAs(array);
+        assertThat(tree.toString()).isEqualTo("{\"a\":{\"b\":[\"x\",\"plaintext\"]},\"c\":\"plaintext\"}");
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.aes.ImmutableAesEncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ImmutableChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.ImmutableEciesEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.ImmutableRsaEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter.HashAlgorithm;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The compact binary form of encrypted values ({@link EncryptedValue.Format#BINARY}):
+ *
+ * <pre>
+ * magic (0xEC 0xC5) | version (0x02) | algorithm and mode | key id | algorithm fields...
+ * </pre>
+ *
+ * The key id and every byte field are prefixed with their length as an unsigned LEB128 varint, and an empty key id
+ * means that none was recorded. RSA values store their OAEP and MGF1 hash algorithms as one byte each before their
+ * byte fields. A value is only accepted if it is consumed exactly, which makes it vanishingly unlikely that a legacy
+ * ciphertext that happens to start with the magic bytes is misread.
+ */
+final class BinaryFormat {
+    private static final byte MAGIC_0 = (byte) 0xEC;
+    private static final byte MAGIC_1 = (byte) 0xC5;
+    private static final byte VERSION = 0x02;
+
+    private static final int AES_GCM = 0x10;
+    private static final int AES_SIV = 0x11;
+    private static final int RSA_OAEP = 0x20;
+    private static final int RSA_ENVELOPE = 0x21;
+    private static final int CHACHA20_POLY1305 = 0x30;
+    private static final int ECIES_X25519_AES_GCM = 0x40;
+
+    private static final int SHA1 = 0x01;
+    private static final int SHA256 = 0x02;
+
+    private BinaryFormat() {}
+
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length > 3 && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1 && bytes[2] == VERSION;
+    }
+
+    static byte[] write(EncryptedValue value) {
+        return value.accept(Writer.INSTANCE);
+    }
+
+    static Optional<EncryptedValue> read(byte[] bytes) {
+        if (!isBinary(bytes)) {
+            return Optional.empty();
+        }
+        try {
+            Reader reader = new Reader(bytes, 3);
+            EncryptedValue value = reader.readValue();
+            return reader.isExhausted() ? Optional.of(value) : Optional.empty();
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private enum Writer implements EncryptedValueVisitor<byte[]> {
+        INSTANCE;
+
+        @Override
+        public byte[] visit(LegacyEncryptedValue legacyEncryptedValue) {
+            // legacy values are already raw ciphertext
+            return legacyEncryptedValue.getCiphertext();
+        }
+
+        @Override
+        public byte[] visit(AesEncryptedValue value) {
+            Output output = new Output(value.getMode() == AesEncryptedValue.Mode.SIV ? AES_SIV : AES_GCM);
+            output.writeKeyId(value.getKeyId());
+            output.writeField(value.getIv());
+            output.writeField(value.getCiphertext());
+            output.writeField(value.getTag());
+            return output.toByteArray();
+        }
+
+        @Override
+        public byte[] visit(RsaEncryptedValue value) {
+            boolean envelope = value.getMode() == RsaEncryptedValue.Mode.ENVELOPE;
+            Output output = new Output(envelope ? RSA_ENVELOPE : RSA_OAEP);
+            output.writeKeyId(value.getKeyId());
+            output.write(hashAlgorithmCode(value.getOaepHashAlg()));
+            output.write(hashAlgorithmCode(value.getMdf1HashAlg()));
+            output.writeField(value.getCiphertext());
+            if (envelope) {
+                output.writeField(value.getWrappedKey());
+                output.writeField(value.getIv());
+                output.writeField(value.getTag());
+            }
+            return output.toByteArray();
+        }
+
+        @Override
+        public byte[] visit(ChaCha20EncryptedValue value) {
+            Output output = new Output(CHACHA20_POLY1305);
+            output.writeKeyId(value.getKeyId());
+            output.writeField(value.getNonce());
+            output.writeField(value.getCiphertext());
+            output.writeField(value.getTag());
+            return output.toByteArray();
+        }
+
+        @Override
+        public byte[] visit(EciesEncryptedValue value) {
+            Output output = new Output(ECIES_X25519_AES_GCM);
+            output.writeKeyId(value.getKeyId());
+            output.writeField(value.getEphemeralPublicKey());
+            output.writeField(value.getCiphertext());
+            output.writeField(value.getTag());
+            return output.toByteArray();
+        }
+    }
+
+    private static int hashAlgorithmCode(HashAlgorithm hashAlgorithm) {
+        switch (hashAlgorithm) {
+            case SHA1:
+                return SHA1;
+            case SHA256:
+                return SHA256;
+        }
+        throw new SafeIllegalArgumentException("unknown hash algorithm");
+    }
+
+    private static HashAlgorithm hashAlgorithm(int code) {
+        switch (code) {
+            case SHA1:
+                return HashAlgorithm.SHA1;
+            case SHA256:
+                return HashAlgorithm.SHA256;
+            default:
+                throw new SafeIllegalArgumentException("unknown hash algorithm");
+        }
+    }
+
+    private static final class Output extends ByteArrayOutputStream {
+        Output(int algorithmAndMode) {
+            super(64);
+            write(MAGIC_0);
+            write(MAGIC_1);
+            write(VERSION);
+            write(algorithmAndMode);
+        }
+
+        void writeKeyId(String keyId) {
+            writeField(keyId == null ? new byte[0] : keyId.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeField(byte[] field) {
+            int length = field.length;
+            while ((length & ~0x7f) != 0) {
+                write((length & 0x7f) | 0x80);
+                length >>>= 7;
+            }
+            write(length);
+            write(field, 0, field.length);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        boolean isExhausted() {
+            return position == bytes.length;
+        }
+
+        EncryptedValue readValue() {
+            int algorithmAndMode = readByte();
+            String keyId = readKeyId();
+            switch (algorithmAndMode) {
+                case AES_GCM:
+                case AES_SIV:
+                    return ImmutableAesEncryptedValue.builder()
+                            .mode(algorithmAndMode == AES_SIV ? AesEncryptedValue.Mode.SIV : AesEncryptedValue.Mode.GCM)
+                            .keyId(keyId)
+                            .iv(readField())
+                            .ciphertext(readField())
+                            .tag(readField())
+                            .build();
+                case RSA_OAEP:
+                case RSA_ENVELOPE:
+                    boolean envelope = algorithmAndMode == RSA_ENVELOPE;
+                    ImmutableRsaEncryptedValue.Builder rsa = ImmutableRsaEncryptedValue.builder()
+                            .mode(envelope ? RsaEncryptedValue.Mode.ENVELOPE : RsaEncryptedValue.Mode.OAEP)
+                            .keyId(keyId)
+                            .oaepHashAlg(hashAlgorithm(readByte()))
+                            .mdf1HashAlg(hashAlgorithm(readByte()))
+                            .ciphertext(readField());
+                    if (envelope) {
+                        rsa.wrappedKey(readField()).iv(readField()).tag(readField());
+                    }
+                    return rsa.build();
+                case CHACHA20_POLY1305:
+                    return ImmutableChaCha20EncryptedValue.builder()
+                            .keyId(keyId)
+                            .nonce(readField())
+                            .ciphertext(readField())
+                            .tag(readField())
+                            .build();
+                case ECIES_X25519_AES_GCM:
+                    return ImmutableEciesEncryptedValue.builder()
+                            .keyId(keyId)
+                            .ephemeralPublicKey(readField())
+                            .ciphertext(readField())
+                            .tag(readField())
+                            .build();
+                default:
+                    throw new SafeIllegalArgumentException("unknown algorithm and mode");
+            }
+        }
+
+        private int readByte() {
+            if (position >= bytes.length) {
+                throw new SafeIllegalArgumentException("truncated value");
+            }
+            return bytes[position++] & 0xff;
+        }
+
+        private int readLength() {
+            int length = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                length |= (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    if (length < 0 || length > bytes.length - position) {
+                        throw new SafeIllegalArgumentException("truncated value");
+                    }
+                    return length;
+                }
+            }
+            throw new SafeIllegalArgumentException("malformed length");
+        }
+
+        private byte[] readField() {
+            int length = readLength();
+            byte[] field = Arrays.copyOfRange(bytes, position, position + length);
+            position += length;
+            return field;
+        }
+
+        private String readKeyId() {
+            int length = readLength();
+            String keyId = length == 0 ? null : new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return keyId;
+        }
+    }
+}
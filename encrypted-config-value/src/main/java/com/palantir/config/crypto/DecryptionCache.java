@@ -0,0 +1,112 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches decrypted plaintexts by a digest of the encrypted value and the identifier of the key that decrypts it, so
+ * that values which have not changed are not decrypted again, for example when configuration is reloaded.
+ *
+ * The cache is bounded by the approximate size of the cached plaintexts and entries expire a fixed time after they
+ * were decrypted. Concurrent requests for the same value wait for a single decryption. Failures are not cached.
+ *
+ * Cached plaintexts remain on the heap until they are evicted, so the cache trades some exposure of secrets in memory
+ * for not repeating decryptions; it is opt-in for that reason.
+ */
+public final class DecryptionCache {
+    private static final char SEPARATOR = ':';
+
+    private final Cache<String, String> plaintexts;
+
+    private DecryptionCache(Cache<String, String> plaintexts) {
+        this.plaintexts = plaintexts;
+    }
+
+    /**
+     * Creates a cache that holds at most approximately {@code maximumPlaintextBytes} of plaintext, and evicts entries
+     * {@code expireAfterWrite} after they were decrypted.
+     */
+    public static DecryptionCache create(long maximumPlaintextBytes, Duration expireAfterWrite) {
+        Preconditions.checkArgument(
+                maximumPlaintextBytes > 0,
+                "maximum plaintext bytes must be positive",
+                SafeArg.of("maximumPlaintextBytes", maximumPlaintextBytes));
+        Preconditions.checkArgument(
+                !expireAfterWrite.isNegative() && !expireAfterWrite.isZero(),
+                "expiry must be positive",
+                SafeArg.of("expireAfterWrite", expireAfterWrite));
+        return new DecryptionCache(CacheBuilder.newBuilder()
+                .maximumWeight(maximumPlaintextBytes)
+                .weigher((String cacheKey, String plaintext) -> Character.BYTES * plaintext.length())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Returns the plaintext of the value, decrypting it with the key if it is not cached.
+     */
+    public String decrypt(EncryptedValue value, KeyWithType kwt) {
+        try {
+            return plaintexts.get(cacheKey(value, kwt.getKeyId()), () -> value.decrypt(kwt));
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new SafeRuntimeException(e.getCause());
+        } catch (ExecutionException e) {
+            throw new SafeRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Evicts every plaintext that was decrypted with the key with the provided identifier, for example once the key
+     * has been rotated out.
+     */
+    public void invalidateKey(String keyId) {
+        String prefix = keyId + SEPARATOR;
+        plaintexts.asMap().keySet().removeIf(cacheKey -> cacheKey.startsWith(prefix));
+    }
+
+    public void invalidateAll() {
+        plaintexts.invalidateAll();
+    }
+
+    /**
+     * Returns hit, miss, load and eviction counts since the cache was created.
+     */
+    public CacheStats stats() {
+        return plaintexts.stats();
+    }
+
+    private static String cacheKey(EncryptedValue value, String keyId) {
+        String digest = Hashing.sha256()
+                .hashString(value.toString(EncryptedValue.Format.BINARY), StandardCharsets.US_ASCII)
+                .toString();
+        return keyId + SEPARATOR + digest;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.palantir.logsafe.Preconditions;
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * The outcome of decrypting one value of a batch: either the plaintext or the exception that decrypting the value
+ * threw.
+ */
+@Value.Immutable
+public abstract class DecryptionResult {
+    public abstract EncryptedValue encryptedValue();
+
+    @Value.Redacted
+    public abstract Optional<String> plaintext();
+
+    public abstract Optional<RuntimeException> error();
+
+    @Value.Check
+    protected final void check() {
+        Preconditions.checkArgument(
+                plaintext().isPresent() != error().isPresent(), "exactly one of plaintext and error must be present");
+    }
+
+    public final boolean isSuccess() {
+        return plaintext().isPresent();
+    }
+
+    /**
+     * Returns the plaintext, or throws the exception that decrypting the value threw.
+     */
+    public final String getOrThrow() {
+        if (error().isPresent()) {
+            throw error().get();
+        }
+        return plaintext().get();
+    }
+
+    private static DecryptionResult success(EncryptedValue encryptedValue, String plaintext) {
+        return ImmutableDecryptionResult.builder()
+                .encryptedValue(encryptedValue)
+                .plaintext(plaintext)
+                .build();
+    }
+
+    static DecryptionResult failure(EncryptedValue encryptedValue, RuntimeException error) {
+        return ImmutableDecryptionResult.builder()
+                .encryptedValue(encryptedValue)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Decrypts the value with the provided key and captures either the plaintext or the exception that was thrown.
+     */
+    static DecryptionResult attempt(EncryptedValue encryptedValue, KeyWithType kwt) {
+        try {
+            return success(encryptedValue, encryptedValue.decrypt(kwt));
+        } catch (RuntimeException e) {
+            return failure(encryptedValue, e);
+        }
+    }
+}
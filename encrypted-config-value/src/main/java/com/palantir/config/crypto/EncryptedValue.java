@@ -21,11 +21,28 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.io.BaseEncoding;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncryptedValue;
 import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.config.crypto.util.DecryptionExecutors;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeRuntimeException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.immutables.value.Value;
 
 /**
  * A value that has been encrypted using an algorithm with specific parameters. The value can be decrypted when provided
@@ -44,31 +61,189 @@ import java.io.IOException;
  */
 @JsonSubTypes({
     @JsonSubTypes.Type(value = AesEncryptedValue.class, name = "AES"),
-    @JsonSubTypes.Type(value = RsaEncryptedValue.class, name = "RSA")
+    @JsonSubTypes.Type(value = RsaEncryptedValue.class, name = "RSA"),
+    @JsonSubTypes.Type(value = ChaCha20EncryptedValue.class, name = "CHACHA20"),
+    @JsonSubTypes.Type(value = EciesEncryptedValue.class, name = "ECIES")
 })
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.EXISTING_PROPERTY, property = "type")
 public abstract class EncryptedValue {
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final String PREFIX = "enc:";
+    private static final int MAX_INTERNED_VALUES = 4096;
+
+    private static final Cache<String, EncryptedValue> PARSED_VALUES =
+            CacheBuilder.newBuilder().maximumSize(MAX_INTERNED_VALUES).build();
+
+    /**
+     * The serialized forms of an encrypted value. Both are accepted by {@link #fromString(String)}.
+     */
+    public enum Format {
+        /** Base64-encoded JSON, readable by all versions of this library. */
+        JSON,
+        /**
+         * A versioned, length-prefixed binary layout that is roughly half the size of the JSON form and is parsed
+         * without a JSON parser. It cannot be read by versions of this library that predate it.
+         */
+        BINARY,
+    }
 
     @JsonIgnore
     public abstract <T> T accept(EncryptedValueVisitor<T> visitor);
 
+    /**
+     * Decrypts this value and returns the plaintext as a String.
+     */
     @JsonIgnore
     public abstract String decrypt(KeyWithType kwa);
 
+    /**
+     * Decrypts this value on {@link DecryptionExecutors#cpu()}.
+     */
+    @JsonIgnore
+    public final CompletableFuture<String> decryptAsync(KeyWithType kwa) {
+        return decryptAsync(kwa, DecryptionExecutors.cpu());
+    }
+
+    /**
+     * Decrypts this value on the provided executor. The returned future completes exceptionally with the exception
+     * that {@link #decrypt(KeyWithType)} would have thrown.
+     */
+    @JsonIgnore
+    public final CompletableFuture<String> decryptAsync(KeyWithType kwa, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> decrypt(kwa), executor);
+    }
+
+    /**
+     * Decrypts this value and returns the UTF-8 encoded plaintext. The returned array is owned by the caller, who can
+     * zero it once the plaintext is no longer needed. The default implementation encodes the result of
+     * {@link #decrypt(KeyWithType)}; the built-in value types override it to avoid the intermediate String.
+     */
+    @JsonIgnore
+    public byte[] decryptToBytes(KeyWithType kwa) {
+        return decrypt(kwa).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decrypts this value and returns the plaintext as characters. The returned array is owned by the caller, who can
+     * zero it once the plaintext is no longer needed. The default implementation decodes
+     * {@link #decryptToBytes(KeyWithType)}, so the built-in value types never create an intermediate String.
+     */
+    @JsonIgnore
+    public char[] decryptToChars(KeyWithType kwa) {
+        byte[] plaintext = decryptToBytes(kwa);
+        CharBuffer chars = null;
+        try {
+            chars = StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(ByteBuffer.wrap(plaintext));
+            char[] result = new char[chars.remaining()];
+            chars.get(result);
+            return result;
+        } catch (CharacterCodingException e) {
+            throw new SafeRuntimeException("unable to decode plaintext", e);
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+            if (chars != null && chars.hasArray()) {
+                Arrays.fill(chars.array(), '\0');
+            }
+        }
+    }
+
+    /**
+     * Decrypts this value into the destination buffer, starting at its current position, and returns the number of
+     * plaintext bytes written. The buffer's position is advanced past the plaintext. The default implementation
+     * copies the result of {@link #decryptToBytes(KeyWithType)}.
+     */
+    @JsonIgnore
+    public int decryptInto(KeyWithType kwa, ByteBuffer destination) {
+        byte[] plaintext = decryptToBytes(kwa);
+        try {
+            checkDestination(destination, plaintext.length);
+            destination.put(plaintext);
+            return plaintext.length;
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+        }
+    }
+
+    /**
+     * Decrypts this value into a new {@link SecretBuffer} that holds the plaintext off-heap. The caller must close the
+     * returned buffer, which zeroes the plaintext.
+     */
+    @JsonIgnore
+    public final SecretBuffer decryptToSecretBuffer(KeyWithType kwa) {
+        return SecretBuffer.decrypt(this, kwa);
+    }
+
+    /**
+     * Returns an upper bound on the size of the plaintext of this value when decrypted with the provided key. The
+     * default implementation decrypts the value to measure it; the built-in value types derive the bound from the
+     * ciphertext instead.
+     */
+    protected int maxPlaintextSize(KeyWithType kwa) {
+        byte[] plaintext = decryptToBytes(kwa);
+        Arrays.fill(plaintext, (byte) 0);
+        return plaintext.length;
+    }
+
+    /**
+     * Decodes the provided UTF-8 plaintext and zeroes it.
+     */
+    protected static String decodePlaintext(byte[] plaintext) {
+        try {
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
+        }
+    }
+
+    protected static void checkDestination(ByteBuffer destination, int plaintextSize) {
+        Preconditions.checkArgument(
+                destination.remaining() >= plaintextSize,
+                "destination buffer is too small for the plaintext",
+                SafeArg.of("remaining", destination.remaining()),
+                SafeArg.of("required", plaintextSize));
+    }
+
     public static boolean isEncryptedValue(String value) {
         return value.startsWith(PREFIX);
     }
 
+    /**
+     * Parses a value in any of the forms produced by {@link #toString(Format)} or by older versions of this library.
+     * Recently parsed values are interned, so parsing the same string repeatedly returns the same instance.
+     */
     public static EncryptedValue fromString(String value) {
         if (!value.startsWith(PREFIX)) {
             throw new IllegalArgumentException("Missing \"enc:\" prefix: " + value);
         }
+        EncryptedValue interned = PARSED_VALUES.getIfPresent(value);
+        if (interned != null) {
+            return interned;
+        }
+        EncryptedValue parsed = parse(value);
+        PARSED_VALUES.put(value, parsed);
+        return parsed;
+    }
 
+    private static EncryptedValue parse(String value) {
         String suffix = value.substring(PREFIX.length());
 
-        byte[] bytes = BaseEncoding.base64().decode(suffix);
+        byte[] bytes = Base64.getDecoder().decode(suffix);
+
+        if (BinaryFormat.isBinary(bytes)) {
+            Optional<EncryptedValue> parsed = BinaryFormat.read(bytes);
+            if (parsed.isPresent()) {
+                return parsed.get();
+            }
+        }
+
+        Optional<EncryptedValue> parsed = EncryptedValueParser.parse(bytes);
+        if (parsed.isPresent()) {
+            return parsed.get();
+        }
 
         // this is a bit dubious, but hopefully we can remove the legacy stuff soon-ish
         try {
@@ -80,25 +255,66 @@ public abstract class EncryptedValue {
         }
     }
 
+    /**
+     * Returns the value in the {@link Format#JSON} form.
+     */
     @Override
     public final String toString() {
-        byte[] bytes = accept(new EncryptedValueVisitor<byte[]>() {
-            @Override
-            public byte[] visit(LegacyEncryptedValue legacyEncryptedValue) {
-                return legacyEncryptedValue.getCiphertext();
-            }
+        return toString(Format.JSON);
+    }
 
-            @Override
-            public byte[] visit(AesEncryptedValue aesEncryptedValue) {
-                return getJsonBytes(aesEncryptedValue);
-            }
+    /**
+     * Returns the value in the provided form. Legacy values are always returned in their original form.
+     */
+    public final String toString(Format format) {
+        return format == Format.BINARY ? binaryString() : jsonString();
+    }
 
-            @Override
-            public byte[] visit(RsaEncryptedValue rsaEncryptedValue) {
-                return getJsonBytes(rsaEncryptedValue);
-            }
-        });
-        return PREFIX + BaseEncoding.base64().encode(bytes);
+    /**
+     * The {@link Format#JSON} form of this value, which is memoized by the Immutables implementations.
+     */
+    @Value.Lazy
+    @JsonIgnore
+    protected String jsonString() {
+        return PREFIX + Base64.getEncoder().encodeToString(accept(JsonBytesVisitor.INSTANCE));
+    }
+
+    /**
+     * The {@link Format#BINARY} form of this value, which is memoized by the Immutables implementations.
+     */
+    @Value.Lazy
+    @JsonIgnore
+    protected String binaryString() {
+        return PREFIX + Base64.getEncoder().encodeToString(BinaryFormat.write(this));
+    }
+
+    private enum JsonBytesVisitor implements EncryptedValueVisitor<byte[]> {
+        INSTANCE;
+
+        @Override
+        public byte[] visit(LegacyEncryptedValue legacyEncryptedValue) {
+            return legacyEncryptedValue.getCiphertext();
+        }
+
+        @Override
+        public byte[] visit(AesEncryptedValue aesEncryptedValue) {
+            return getJsonBytes(aesEncryptedValue);
+        }
+
+        @Override
+        public byte[] visit(RsaEncryptedValue rsaEncryptedValue) {
+            return getJsonBytes(rsaEncryptedValue);
+        }
+
+        @Override
+        public byte[] visit(ChaCha20EncryptedValue chaCha20EncryptedValue) {
+            return getJsonBytes(chaCha20EncryptedValue);
+        }
+
+        @Override
+        public byte[] visit(EciesEncryptedValue eciesEncryptedValue) {
+            return getJsonBytes(eciesEncryptedValue);
+        }
     }
 
     private static byte[] getJsonBytes(Object value) {
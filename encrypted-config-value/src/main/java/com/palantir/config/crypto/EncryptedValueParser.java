@@ -0,0 +1,220 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.aes.ImmutableAesEncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ImmutableChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.ImmutableEciesEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.ImmutableRsaEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter.HashAlgorithm;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Reads the JSON form of encrypted values with a streaming parser, directly into the Immutables builders, rather than
+ * through polymorphic {@link com.fasterxml.jackson.databind.ObjectMapper} deserialization.
+ *
+ * The parser only recognizes the fields written by this library for each type of value. Anything else, including
+ * fields that belong to another type and malformed JSON, yields empty so that callers can fall back to the full
+ * deserializer, which keeps the accepted inputs identical.
+ */
+final class EncryptedValueParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ImmutableSet<String> AES_FIELDS =
+            ImmutableSet.of("type", "mode", "key-id", "iv", "ciphertext", "tag");
+    private static final ImmutableSet<String> RSA_FIELDS =
+            ImmutableSet.of("type", "mode", "key-id", "oaep-alg", "mdf1-alg", "ciphertext", "wrapped-key", "iv", "tag");
+    private static final ImmutableSet<String> CHACHA20_FIELDS =
+            ImmutableSet.of("type", "mode", "key-id", "nonce", "ciphertext", "tag");
+    private static final ImmutableSet<String> ECIES_FIELDS =
+            ImmutableSet.of("type", "mode", "key-id", "ephemeral-public-key", "ciphertext", "tag");
+
+    private EncryptedValueParser() {}
+
+    static Optional<EncryptedValue> parse(byte[] json) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            Fields fields = new Fields();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                fields.names.add(name);
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (token != JsonToken.VALUE_STRING || !fields.read(name, parser)) {
+                    return Optional.empty();
+                }
+            }
+            return fields.build();
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static final class Fields {
+        // every field name in the object, including those with null values, which must still belong to the type
+        private final List<String> names = new ArrayList<>();
+        private String type;
+        private String mode;
+        private String keyId;
+        private String oaepAlg;
+        private String mdf1Alg;
+        private byte[] iv;
+        private byte[] nonce;
+        private byte[] ciphertext;
+        private byte[] tag;
+        private byte[] wrappedKey;
+        private byte[] ephemeralPublicKey;
+
+        boolean read(String name, JsonParser parser) throws IOException {
+            switch (name) {
+                case "type":
+                    type = parser.getText();
+                    return true;
+                case "mode":
+                    mode = parser.getText();
+                    return true;
+                case "key-id":
+                    keyId = parser.getText();
+                    return true;
+                case "oaep-alg":
+                    oaepAlg = parser.getText();
+                    return true;
+                case "mdf1-alg":
+                    mdf1Alg = parser.getText();
+                    return true;
+                case "iv":
+                    iv = parser.getBinaryValue();
+                    return true;
+                case "nonce":
+                    nonce = parser.getBinaryValue();
+                    return true;
+                case "ciphertext":
+                    ciphertext = parser.getBinaryValue();
+                    return true;
+                case "tag":
+                    tag = parser.getBinaryValue();
+                    return true;
+                case "wrapped-key":
+                    wrappedKey = parser.getBinaryValue();
+                    return true;
+                case "ephemeral-public-key":
+                    ephemeralPublicKey = parser.getBinaryValue();
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        Optional<EncryptedValue> build() {
+            if (type == null) {
+                return Optional.empty();
+            }
+            switch (type) {
+                case "AES":
+                    return build(AES_FIELDS, this::aes);
+                case "RSA":
+                    return build(RSA_FIELDS, this::rsa);
+                case "CHACHA20":
+                    return build(CHACHA20_FIELDS, this::chaCha20);
+                case "ECIES":
+                    return build(ECIES_FIELDS, this::ecies);
+                default:
+                    return Optional.empty();
+            }
+        }
+
+        private Optional<EncryptedValue> build(Set<String> allowedFields, Supplier<EncryptedValue> builder) {
+            return allowedFields.containsAll(names) ? Optional.of(builder.get()) : Optional.empty();
+        }
+
+        private EncryptedValue aes() {
+            ImmutableAesEncryptedValue.Builder builder = ImmutableAesEncryptedValue.builder()
+                    .iv(iv)
+                    .ciphertext(ciphertext)
+                    .tag(tag)
+                    .keyId(keyId);
+            if (mode != null) {
+                builder.mode(AesEncryptedValue.Mode.valueOf(mode));
+            }
+            return builder.build();
+        }
+
+        private EncryptedValue rsa() {
+            ImmutableRsaEncryptedValue.Builder builder = ImmutableRsaEncryptedValue.builder()
+                    .ciphertext(ciphertext)
+                    .oaepHashAlg(hashAlgorithm(oaepAlg))
+                    .mdf1HashAlg(hashAlgorithm(mdf1Alg))
+                    .keyId(keyId)
+                    .wrappedKey(wrappedKey)
+                    .iv(iv)
+                    .tag(tag);
+            if (mode != null) {
+                builder.mode(RsaEncryptedValue.Mode.valueOf(mode));
+            }
+            return builder.build();
+        }
+
+        private EncryptedValue chaCha20() {
+            ImmutableChaCha20EncryptedValue.Builder builder = ImmutableChaCha20EncryptedValue.builder()
+                    .nonce(nonce)
+                    .ciphertext(ciphertext)
+                    .tag(tag)
+                    .keyId(keyId);
+            if (mode != null) {
+                builder.mode(ChaCha20EncryptedValue.Mode.valueOf(mode));
+            }
+            return builder.build();
+        }
+
+        private EncryptedValue ecies() {
+            ImmutableEciesEncryptedValue.Builder builder = ImmutableEciesEncryptedValue.builder()
+                    .ephemeralPublicKey(ephemeralPublicKey)
+                    .ciphertext(ciphertext)
+                    .tag(tag)
+                    .keyId(keyId);
+            if (mode != null) {
+                builder.mode(EciesEncryptedValue.Mode.valueOf(mode));
+            }
+            return builder.build();
+        }
+
+        private static HashAlgorithm hashAlgorithm(String name) {
+            for (HashAlgorithm algorithm : HashAlgorithm.values()) {
+                if (algorithm.toString().equals(name)) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalArgumentException("unknown hash algorithm");
+        }
+    }
+}
@@ -17,7 +17,11 @@
 package com.palantir.config.crypto;
 
 import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncryptedValue;
 import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 
 public interface EncryptedValueVisitor<T> {
     T visit(LegacyEncryptedValue legacyEncryptedValue);
@@ -25,4 +29,20 @@ public interface EncryptedValueVisitor<T> {
     T visit(AesEncryptedValue aesEncryptedValue);
 
     T visit(RsaEncryptedValue rsaEncryptedValue);
+
+    /**
+     * Visits a ChaCha20-Poly1305 value. Visitors written before this type was added reject it by default.
+     */
+    default T visit(ChaCha20EncryptedValue _chaCha20EncryptedValue) {
+        throw new SafeIllegalArgumentException(
+                "Unsupported encrypted value type", SafeArg.of("type", ChaCha20EncryptedValue.class.getSimpleName()));
+    }
+
+    /**
+     * Visits an ECIES value. Visitors written before this type was added reject it by default.
+     */
+    default T visit(EciesEncryptedValue _eciesEncryptedValue) {
+        throw new SafeIllegalArgumentException(
+                "Unsupported encrypted value type", SafeArg.of("type", EciesEncryptedValue.class.getSimpleName()));
+    }
 }
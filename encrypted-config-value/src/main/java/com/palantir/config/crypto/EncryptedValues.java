@@ -0,0 +1,119 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.aes.AesKey;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20Key;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.EciesPrivateKey;
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaPrivateKey;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Operations on many {@link EncryptedValue}s at once.
+ */
+public final class EncryptedValues {
+    private EncryptedValues() {
+        /* do not instantiate */
+    }
+
+    /**
+     * Decrypts all of the provided values with the same key and returns one result per value, in the iteration order of
+     * the provided collection. Ciphers are reused across the values through the per-thread cipher cache. The values are
+     * grouped by the type of key they require, and the key is checked against each group once: every value in a group
+     * whose key type does not match is reported as failed with the same exception, without being decrypted. Any other
+     * failure is reported in the value's own result, and no failure prevents the remaining values from being
+     * decrypted.
+     */
+    public static List<DecryptionResult> decryptAll(Collection<? extends EncryptedValue> values, KeyWithType kwt) {
+        Map<RequiredKey, Optional<RuntimeException>> mismatches = new EnumMap<>(RequiredKey.class);
+        List<DecryptionResult> results = new ArrayList<>(values.size());
+        for (EncryptedValue value : values) {
+            Optional<RuntimeException> mismatch = value.accept(RequiredKeyVisitor.INSTANCE)
+                    .flatMap(requiredKey -> mismatches.computeIfAbsent(requiredKey, key -> key.mismatch(kwt)));
+            results.add(
+                    mismatch.isPresent()
+                            ? DecryptionResult.failure(value, mismatch.get())
+                            : DecryptionResult.attempt(value, kwt));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private enum RequiredKey {
+        AES(KeyType.AES, AesKey.class),
+        RSA(KeyType.RSA_PRIVATE, RsaPrivateKey.class),
+        CHACHA20(KeyType.CHACHA20, ChaCha20Key.class),
+        ECIES(KeyType.ECIES_PRIVATE, EciesPrivateKey.class);
+
+        private final KeyType keyType;
+        private final Class<? extends Key> keyClass;
+
+        RequiredKey(KeyType keyType, Class<? extends Key> keyClass) {
+            this.keyType = keyType;
+            this.keyClass = keyClass;
+        }
+
+        Optional<RuntimeException> mismatch(KeyWithType kwt) {
+            try {
+                keyType.checkKeyArgument(kwt, keyClass);
+                return Optional.empty();
+            } catch (RuntimeException e) {
+                return Optional.of(e);
+            }
+        }
+    }
+
+    // legacy values select their algorithm from the key, so they are checked when they are decrypted
+    private enum RequiredKeyVisitor implements EncryptedValueVisitor<Optional<RequiredKey>> {
+        INSTANCE;
+
+        @Override
+        public Optional<RequiredKey> visit(LegacyEncryptedValue _legacyEncryptedValue) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<RequiredKey> visit(AesEncryptedValue _aesEncryptedValue) {
+            return Optional.of(RequiredKey.AES);
+        }
+
+        @Override
+        public Optional<RequiredKey> visit(RsaEncryptedValue _rsaEncryptedValue) {
+            return Optional.of(RequiredKey.RSA);
+        }
+
+        @Override
+        public Optional<RequiredKey> visit(ChaCha20EncryptedValue _chaCha20EncryptedValue) {
+            return Optional.of(RequiredKey.CHACHA20);
+        }
+
+        @Override
+        public Optional<RequiredKey> visit(EciesEncryptedValue _eciesEncryptedValue) {
+            return Optional.of(RequiredKey.ECIES);
+        }
+    }
+}
@@ -16,10 +16,20 @@
 
 package com.palantir.config.crypto;
 
+import com.palantir.config.crypto.util.KeyIds;
+
 /**
  * A key used for encryption or decryption. Keys must support returning a byte[] representation that can be used to
  * store the key. No assumptions are made about the format of the returned bytes.
  */
 public interface Key {
     byte[] bytes();
+
+    /**
+     * Returns a short, non-secret identifier for this key. Both keys of an asymmetric key pair return the same
+     * identifier, so a value can record the identifier of the key needed to decrypt it.
+     */
+    default String keyId() {
+        return KeyIds.fromKeyMaterial(bytes());
+    }
 }
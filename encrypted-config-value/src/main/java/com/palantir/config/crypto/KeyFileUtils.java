@@ -16,6 +16,9 @@
 
 package com.palantir.config.crypto;
 
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.config.crypto.util.CipherCache;
+import com.palantir.config.crypto.util.DecryptionExecutors;
 import com.palantir.logsafe.exceptions.SafeRuntimeException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -24,19 +27,30 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public final class KeyFileUtils {
     public static final String KEY_PATH_PROPERTY = "palantir.config.key_path";
     public static final String DEFAULT_PUBLIC_KEY_PATH = "var/conf/encrypted-config-value.key";
 
     public static String decryptUsingDefaultKeys(EncryptedValue encryptedValue) {
-        KeyPair keyPair;
-        try {
-            keyPair = keyPairFromDefaultPath();
-        } catch (IOException e) {
-            throw new SafeRuntimeException("Failed to read key", e);
-        }
-        return encryptedValue.decrypt(keyPair.decryptionKey());
+        return encryptedValue.decrypt(defaultKeyPairOrThrow().decryptionKey());
+    }
+
+    /**
+     * Decrypts the value using the default key pair, returning the plaintext from the cache if it holds the value.
+     */
+    public static String decryptUsingDefaultKeys(EncryptedValue encryptedValue, DecryptionCache cache) {
+        return cache.decrypt(encryptedValue, defaultKeyPairOrThrow().decryptionKey());
+    }
+
+    /**
+     * Decrypts the value into a {@link SecretBuffer} using the default key pair. The caller must close the returned
+     * buffer.
+     */
+    public static SecretBuffer decryptToSecretBufferUsingDefaultKeys(EncryptedValue encryptedValue) {
+        return encryptedValue.decryptToSecretBuffer(defaultKeyPairOrThrow().decryptionKey());
     }
 
     public static KeyWithType keyWithTypeFromPath(Path keyPath) throws IOException {
@@ -76,13 +90,91 @@ public final class KeyFileUtils {
     }
 
     public static KeyPair keyPairFromDefaultPath() throws IOException {
-        return keyPairFromPath(Paths.get(System.getProperty(KEY_PATH_PROPERTY, DEFAULT_PUBLIC_KEY_PATH)));
+        return keyPairFromPath(defaultPath());
+    }
+
+    /**
+     * Returns the same key pair as {@link #keyPairFromPath(Path)}, but only reads and parses the key files the first
+     * time they are requested and whenever their size, modification time or file key changes. The cache is shared by
+     * all callers in the process.
+     */
+    public static KeyPair cachedKeyPairFromPath(Path path) throws IOException {
+        return KeyPairCache.get(path);
+    }
+
+    /**
+     * Returns the same key pair as {@link #keyPairFromDefaultPath()} using the cache described in
+     * {@link #cachedKeyPairFromPath(Path)}.
+     */
+    public static KeyPair cachedKeyPairFromDefaultPath() throws IOException {
+        return cachedKeyPairFromPath(defaultPath());
+    }
+
+    /**
+     * Loads the key pair as {@link #cachedKeyPairFromPath(Path)} does on {@link DecryptionExecutors#io()}. The returned
+     * future completes exceptionally with the {@link IOException} if the key files cannot be read.
+     */
+    public static CompletableFuture<KeyPair> cachedKeyPairFromPathAsync(Path path) {
+        return cachedKeyPairFromPathAsync(path, DecryptionExecutors.io());
+    }
+
+    /**
+     * Loads the key pair as {@link #cachedKeyPairFromPath(Path)} does on the provided executor.
+     */
+    public static CompletableFuture<KeyPair> cachedKeyPairFromPathAsync(Path path, Executor executor) {
+        CompletableFuture<KeyPair> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(cachedKeyPairFromPath(path));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Loads the default key pair on {@link DecryptionExecutors#io()} and then decrypts the value with it on
+     * {@link DecryptionExecutors#cpu()}, so that neither blocking reads nor cipher work run on the calling thread.
+     */
+    public static CompletableFuture<String> decryptUsingDefaultKeysAsync(EncryptedValue encryptedValue) {
+        return cachedKeyPairFromPathAsync(defaultPath())
+                .thenApplyAsync(keyPair -> encryptedValue.decrypt(keyPair.decryptionKey()), DecryptionExecutors.cpu());
+    }
+
+    /**
+     * Discards all key pairs cached by {@link #cachedKeyPairFromPath(Path)}, along with the ciphers and RSA data keys
+     * cached for their keys.
+     */
+    public static void invalidateKeyPairCache() {
+        KeyPairCache.invalidateAll();
+        invalidateDerivedKeys();
+    }
+
+    /**
+     * Discards the ciphers and RSA data keys cached for keys that may have been rotated.
+     */
+    static void invalidateDerivedKeys() {
+        CipherCache.invalidateAll();
+        RsaEncryptedValue.invalidateDataKeys();
+    }
+
+    private static KeyPair defaultKeyPairOrThrow() {
+        try {
+            return cachedKeyPairFromDefaultPath();
+        } catch (IOException e) {
+            throw new SafeRuntimeException("Failed to read key", e);
+        }
+    }
+
+    private static Path defaultPath() {
+        return Paths.get(System.getProperty(KEY_PATH_PROPERTY, DEFAULT_PUBLIC_KEY_PATH));
     }
 
     /**
      * Returns the sibling path of the provided path with ".private" as the extension.
      */
-    private static Path privatePath(Path path) {
+    static Path privatePath(Path path) {
         Path privatePath = path.resolveSibling(path.getFileName() + ".private");
         return privatePath;
     }
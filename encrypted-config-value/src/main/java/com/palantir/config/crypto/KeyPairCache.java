@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+import org.immutables.value.Value;
+
+/**
+ * Process-wide cache of key pairs read from disk, keyed by the absolute path of the encryption key file. Each entry
+ * records the size, modification time and file key (the inode on most platforms) of the key files at the time they
+ * were read, so a key file that is rewritten or replaced is read again on the next lookup. Such a reload also discards
+ * the ciphers and RSA data keys derived from the previous keys, as {@link ReloadingKeyPair} does.
+ */
+final class KeyPairCache {
+    private static final ConcurrentMap<Path, CachedKeyPair> CACHE = new ConcurrentHashMap<>();
+
+    private KeyPairCache() {}
+
+    static KeyPair get(Path path) throws IOException {
+        Path absolutePath = path.toAbsolutePath().normalize();
+
+        // stamps are read before the key files so that a concurrent rewrite is detected on the next lookup
+        FileStamp encryptionKeyStamp = FileStamp.of(absolutePath);
+        Optional<FileStamp> decryptionKeyStamp = FileStamp.ofOptional(KeyFileUtils.privatePath(absolutePath));
+
+        CachedKeyPair cached = CACHE.get(absolutePath);
+        if (cached != null
+                && cached.encryptionKeyStamp().equals(encryptionKeyStamp)
+                && cached.decryptionKeyStamp().equals(decryptionKeyStamp)) {
+            return cached.keyPair();
+        }
+
+        KeyPair keyPair = KeyFileUtils.keyPairFromPath(absolutePath);
+        CACHE.put(
+                absolutePath,
+                ImmutableCachedKeyPair.builder()
+                        .encryptionKeyStamp(encryptionKeyStamp)
+                        .decryptionKeyStamp(decryptionKeyStamp)
+                        .keyPair(keyPair)
+                        .build());
+        if (cached != null) {
+            KeyFileUtils.invalidateDerivedKeys();
+        }
+        return keyPair;
+    }
+
+    static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    @Value.Immutable
+    abstract static class CachedKeyPair {
+        abstract FileStamp encryptionKeyStamp();
+
+        abstract Optional<FileStamp> decryptionKeyStamp();
+
+        abstract KeyPair keyPair();
+    }
+
+    @Value.Immutable
+    abstract static class FileStamp {
+        abstract long size();
+
+        abstract FileTime lastModifiedTime();
+
+        @Nullable
+        abstract Object fileKey();
+
+        static FileStamp of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return ImmutableFileStamp.builder()
+                    .size(attributes.size())
+                    .lastModifiedTime(attributes.lastModifiedTime())
+                    .fileKey(attributes.fileKey())
+                    .build();
+        }
+
+        static Optional<FileStamp> ofOptional(Path path) throws IOException {
+            try {
+                return Optional.of(of(path));
+            } catch (NoSuchFileException e) {
+                return Optional.empty();
+            }
+        }
+    }
+}
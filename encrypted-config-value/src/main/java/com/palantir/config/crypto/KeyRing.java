@@ -0,0 +1,185 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.google.common.collect.ImmutableMap;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20EncryptedValue;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import org.immutables.value.Value;
+
+/**
+ * A set of decryption keys, for example the current and previous keys during a key rotation.
+ *
+ * Values that record the identifier of the key used to encrypt them are decrypted with the matching key, which is
+ * selected with a single map lookup. Values that do not record a key identifier (legacy values, values encrypted by
+ * older versions and values from encrypters that do not opt in to recording it) are decrypted by trying each key that
+ * supports the value's algorithm in turn. Such values are therefore tried against every key in the ring, at the cost of
+ * up to one failed decryption per key; encrypters that record the key id, such as
+ * {@link com.palantir.config.crypto.algorithm.aes.AesGcmEncrypter#withKeyId()}, avoid this.
+ */
+@Value.Immutable
+public abstract class KeyRing {
+
+    public abstract List<KeyWithType> keys();
+
+    @Value.Lazy
+    Map<String, KeyWithType> keysById() {
+        Map<String, KeyWithType> keysById = new LinkedHashMap<>();
+        for (KeyWithType key : keys()) {
+            keysById.putIfAbsent(key.getKeyId(), key);
+        }
+        return ImmutableMap.copyOf(keysById);
+    }
+
+    /**
+     * Returns the key whose identifier is recorded in the provided value, or empty if the value does not record a key
+     * identifier or this key ring does not contain the key.
+     */
+    public final Optional<KeyWithType> keyFor(EncryptedValue value) {
+        return value.accept(KeyIdVisitor.INSTANCE).map(keyId -> keysById().get(keyId));
+    }
+
+    /**
+     * Decrypts the provided value using the key identified by the value, or by trial if the value does not identify
+     * its key. Throws if the value identifies a key that is not in this key ring or if no key can decrypt the value.
+     */
+    public final String decrypt(EncryptedValue value) {
+        return decrypt(value, EncryptedValue::decrypt);
+    }
+
+    /**
+     * Decrypts the provided value into a {@link SecretBuffer}, selecting the key as {@link #decrypt(EncryptedValue)}
+     * does. The caller must close the returned buffer.
+     */
+    public final SecretBuffer decryptToSecretBuffer(EncryptedValue value) {
+        return decrypt(value, EncryptedValue::decryptToSecretBuffer);
+    }
+
+    private <T> T decrypt(EncryptedValue value, BiFunction<EncryptedValue, KeyWithType, T> decryption) {
+        Optional<String> keyId = value.accept(KeyIdVisitor.INSTANCE);
+        if (keyId.isPresent()) {
+            KeyWithType key = keysById().get(keyId.get());
+            if (key == null) {
+                throw new SafeIllegalArgumentException(
+                        "key ring does not contain the key used to encrypt the value", SafeArg.of("keyId", keyId));
+            }
+            return decryption.apply(value, key);
+        }
+        return decryptByTrial(value, decryption);
+    }
+
+    private <T> T decryptByTrial(EncryptedValue value, BiFunction<EncryptedValue, KeyWithType, T> decryption) {
+        Optional<Algorithm> algorithm = value.accept(AlgorithmVisitor.INSTANCE);
+        RuntimeException failure = null;
+        for (KeyWithType key : keys()) {
+            if (algorithm.isPresent() && key.getType().getAlgorithm() != algorithm.get()) {
+                continue;
+            }
+            try {
+                return decryption.apply(value, key);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        throw new SafeRuntimeException(
+                "none of the keys in the key ring could decrypt the value",
+                failure,
+                SafeArg.of("keyCount", keys().size()));
+    }
+
+    public static KeyRing of(KeyWithType... keys) {
+        return of(Arrays.asList(keys));
+    }
+
+    public static KeyRing of(Iterable<KeyWithType> keys) {
+        return ImmutableKeyRing.builder().addAllKeys(keys).build();
+    }
+
+    private enum KeyIdVisitor implements EncryptedValueVisitor<Optional<String>> {
+        INSTANCE;
+
+        @Override
+        public Optional<String> visit(LegacyEncryptedValue legacyEncryptedValue) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> visit(AesEncryptedValue aesEncryptedValue) {
+            return Optional.ofNullable(aesEncryptedValue.getKeyId());
+        }
+
+        @Override
+        public Optional<String> visit(RsaEncryptedValue rsaEncryptedValue) {
+            return Optional.ofNullable(rsaEncryptedValue.getKeyId());
+        }
+
+        @Override
+        public Optional<String> visit(ChaCha20EncryptedValue chaCha20EncryptedValue) {
+            return Optional.ofNullable(chaCha20EncryptedValue.getKeyId());
+        }
+
+        @Override
+        public Optional<String> visit(EciesEncryptedValue eciesEncryptedValue) {
+            return Optional.ofNullable(eciesEncryptedValue.getKeyId());
+        }
+    }
+
+    private enum AlgorithmVisitor implements EncryptedValueVisitor<Optional<Algorithm>> {
+        INSTANCE;
+
+        @Override
+        public Optional<Algorithm> visit(LegacyEncryptedValue legacyEncryptedValue) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Algorithm> visit(AesEncryptedValue aesEncryptedValue) {
+            return Optional.of(aesEncryptedValue.getType());
+        }
+
+        @Override
+        public Optional<Algorithm> visit(RsaEncryptedValue rsaEncryptedValue) {
+            return Optional.of(rsaEncryptedValue.getType());
+        }
+
+        @Override
+        public Optional<Algorithm> visit(ChaCha20EncryptedValue chaCha20EncryptedValue) {
+            return Optional.of(chaCha20EncryptedValue.getType());
+        }
+
+        @Override
+        public Optional<Algorithm> visit(EciesEncryptedValue eciesEncryptedValue) {
+            return Optional.of(eciesEncryptedValue.getType());
+        }
+    }
+}
@@ -20,9 +20,9 @@ import static com.palantir.logsafe.Preconditions.checkArgument;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
-import com.google.common.base.Throwables;
 import com.google.common.io.BaseEncoding;
 import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.algorithm.rsa.RsaKeyEncoding;
 import org.immutables.value.Value;
 
 /**
@@ -36,6 +36,14 @@ public abstract class KeyWithType {
 
     public abstract Key getKey();
 
+    /**
+     * Returns the identifier of the key. See {@link Key#keyId()}.
+     */
+    @Value.Lazy
+    public String getKeyId() {
+        return getKey().keyId();
+    }
+
     @Override
     @JsonValue
     public final String toString() {
@@ -49,30 +57,18 @@ public abstract class KeyWithType {
         String[] tokens = keyWithType.split(":", 2);
         byte[] decodedKey = BaseEncoding.base64().decode(tokens[1]);
 
-        // legacy RSA key format
+        // legacy RSA key format; private and public keys are told apart by their DER structure
         if (tokens[0].equals("RSA")) {
-            // try parsing as private key
-            RuntimeException parsePrivateKeyException;
-            try {
-                return KeyType.RSA_PRIVATE.keyFromBytes(decodedKey);
-            } catch (RuntimeException e) {
-                // ignore; try parsing as public key
-                parsePrivateKeyException = e;
+            switch (RsaKeyEncoding.detect(decodedKey)) {
+                case PKCS8:
+                    return KeyType.RSA_PRIVATE.keyFromBytes(decodedKey);
+                case X509:
+                    return KeyType.RSA_PUBLIC.keyFromBytes(decodedKey);
+                case UNKNOWN:
+                    break;
             }
-
-            // try parsing as public key
-            RuntimeException parsePublicKeyException;
-            try {
-                return KeyType.RSA_PUBLIC.keyFromBytes(decodedKey);
-            } catch (RuntimeException e) {
-                // ignore; try parsing as public key
-                parsePublicKeyException = e;
-            }
-
-            throw new IllegalStateException("unable to parse legacy RSA key.\n"
-                    + "Error parsing as private key: " + Throwables.getStackTraceAsString(parsePrivateKeyException)
-                    + "\n"
-                    + "Error parsing as public key: " + Throwables.getStackTraceAsString(parsePublicKeyException));
+            throw new IllegalStateException(
+                    "unable to parse legacy RSA key: not a PKCS#8 private key or an X.509 public key");
         }
 
         KeyType keyAlg = KeyType.from(tokens[0]);
@@ -23,6 +23,7 @@ import com.palantir.config.crypto.algorithm.rsa.ImmutableRsaEncryptedValue;
 import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
 import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
 import com.palantir.config.crypto.algorithm.rsa.RsaPrivateKey;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.immutables.value.Value;
 
@@ -34,18 +35,35 @@ public abstract class LegacyEncryptedValue extends EncryptedValue {
 
     @Override
     public final String decrypt(KeyWithType kwa) {
-        EncryptedValue translatedValue;
+        return decodePlaintext(decryptToBytes(kwa));
+    }
+
+    @Override
+    public final byte[] decryptToBytes(KeyWithType kwa) {
+        return translate(kwa).decryptToBytes(kwa);
+    }
+
+    @Override
+    public final int decryptInto(KeyWithType kwa, ByteBuffer destination) {
+        return translate(kwa).decryptInto(kwa, destination);
+    }
+
+    @Override
+    protected final int maxPlaintextSize(KeyWithType kwa) {
+        return translate(kwa).maxPlaintextSize(kwa);
+    }
+
+    private EncryptedValue translate(KeyWithType kwa) {
         if (kwa.getKey() instanceof AesKey) {
             // if AES key is provided, interpret value as legacy AES value
-            translatedValue = aesValueFromLegacy(this);
+            return aesValueFromLegacy(this);
         } else if (kwa.getKey() instanceof RsaPrivateKey) {
             // if RSA key is provided, interpret value as legacy RSA value
-            translatedValue = rsaValueFromLegacy(this);
+            return rsaValueFromLegacy(this);
         } else {
             throw new IllegalArgumentException("decrypting legacy values not supported for key type "
                     + kwa.getKey().getClass());
         }
-        return translatedValue.decrypt(kwa);
     }
 
     private static final int LEGACY_IV_SIZE = 256 / Byte.SIZE;
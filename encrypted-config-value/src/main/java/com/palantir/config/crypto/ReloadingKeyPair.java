@@ -0,0 +1,212 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Supplies the key pair stored at a path and keeps it up to date when the key files are rewritten, without restarting
+ * the process or reading the key files on every decryption.
+ *
+ * A background thread watches the directory containing the key file and its ".private" sibling. A change to either
+ * file, including an atomic rename onto it, triggers a reload once no further changes have been observed for the
+ * debounce period; changes to other files in the directory are ignored. The new key pair is parsed on the background
+ * thread and published atomically, so {@link #get()} never blocks. If the key files cannot be read or parsed, for
+ * example because they are only partially written, the previous key pair remains in use and the failure is logged
+ * and counted. Watching stops if the directory is deleted or otherwise becomes inaccessible.
+ */
+public final class ReloadingKeyPair implements Supplier<KeyPair>, Closeable {
+    private static final Logger log = Logger.getLogger(ReloadingKeyPair.class.getName());
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(500);
+
+    private final Path keyPath;
+    private final Set<Path> keyFileNames;
+    private final Duration debounce;
+    private final WatchService watchService;
+    private final AtomicReference<KeyPair> keyPair;
+    private final AtomicLong successfulReloads = new AtomicLong();
+    private final AtomicLong failedReloads = new AtomicLong();
+    private volatile Instant lastSuccessfulLoad;
+
+    private ReloadingKeyPair(Path keyPath, Duration debounce, WatchService watchService, KeyPair initialKeyPair) {
+        this.keyPath = keyPath;
+        this.keyFileNames =
+                Set.of(keyPath.getFileName(), KeyFileUtils.privatePath(keyPath).getFileName());
+        this.debounce = debounce;
+        this.watchService = watchService;
+        this.keyPair = new AtomicReference<>(initialKeyPair);
+        this.lastSuccessfulLoad = Instant.now();
+    }
+
+    /**
+     * Reads the key pair at the provided path and starts watching it for changes. Equivalent to
+     * {@link #watch(Path, Duration)} with a debounce period of 500 milliseconds.
+     */
+    public static ReloadingKeyPair watch(Path keyPath) throws IOException {
+        return watch(keyPath, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * Reads the key pair at the provided path and starts watching it for changes. Throws if the key pair cannot be
+     * read initially.
+     */
+    public static ReloadingKeyPair watch(Path keyPath, Duration debounce) throws IOException {
+        Preconditions.checkArgument(
+                !debounce.isNegative(), "debounce must not be negative", SafeArg.of("debounce", debounce));
+        Path absoluteKeyPath = keyPath.toAbsolutePath().normalize();
+        KeyPair initialKeyPair = KeyFileUtils.keyPairFromPath(absoluteKeyPath);
+
+        WatchService watchService = absoluteKeyPath.getFileSystem().newWatchService();
+        try {
+            absoluteKeyPath
+                    .getParent()
+                    .register(
+                            watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException | RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+
+        ReloadingKeyPair reloadingKeyPair =
+                new ReloadingKeyPair(absoluteKeyPath, debounce, watchService, initialKeyPair);
+        Thread watcher = new Thread(reloadingKeyPair::watchLoop, "encrypted-config-value-key-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        return reloadingKeyPair;
+    }
+
+    /**
+     * Returns the most recently loaded key pair.
+     */
+    @Override
+    public KeyPair get() {
+        return keyPair.get();
+    }
+
+    /**
+     * Returns the number of times the key pair has been reloaded successfully after the initial load.
+     */
+    public long successfulReloads() {
+        return successfulReloads.get();
+    }
+
+    /**
+     * Returns the number of reload attempts that failed and left the previous key pair in place.
+     */
+    public long failedReloads() {
+        return failedReloads.get();
+    }
+
+    /**
+     * Returns the time at which the current key pair was loaded.
+     */
+    public Instant lastSuccessfulLoad() {
+        return lastSuccessfulLoad;
+    }
+
+    /**
+     * Stops watching the key files. The last loaded key pair continues to be returned by {@link #get()}.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watchLoop() {
+        try {
+            boolean valid = true;
+            while (valid) {
+                WatchKey watchKey = watchService.take();
+                boolean keyFilesChanged = drainEvents(watchKey);
+                valid = watchKey.reset();
+                if (keyFilesChanged) {
+                    // wait until the key files have been quiet for the debounce period before reading them
+                    WatchKey next;
+                    while (valid && (next = watchService.poll(debounce.toNanos(), TimeUnit.NANOSECONDS)) != null) {
+                        drainEvents(next);
+                        valid = next.reset();
+                    }
+                    reload();
+                }
+            }
+            warn("Stopped watching key files because their directory is no longer accessible", null);
+        } catch (ClosedWatchServiceException e) {
+            // closed; stop watching
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns whether any of the pending events of the watch key affected the key files.
+     */
+    private boolean drainEvents(WatchKey watchKey) {
+        boolean keyFilesChanged = false;
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            // overflow events carry no file name, so they may hide a change to the key files
+            keyFilesChanged |=
+                    event.kind() == StandardWatchEventKinds.OVERFLOW || keyFileNames.contains((Path) event.context());
+        }
+        return keyFilesChanged;
+    }
+
+    private void reload() {
+        try {
+            keyPair.set(KeyFileUtils.keyPairFromPath(keyPath));
+            lastSuccessfulLoad = Instant.now();
+            successfulReloads.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failedReloads.incrementAndGet();
+            warn("Failed to reload key pair; the previous key pair remains in use", e);
+            return;
+        }
+        // release the ciphers and data keys derived from the previous keys
+        KeyFileUtils.invalidateDerivedKeys();
+    }
+
+    private void warn(String message, @Nullable Throwable throwable) {
+        // logged through java.util.logging, which every application can route to its logging framework
+        LogRecord record = new LogRecord(Level.WARNING, message + ": {0}");
+        record.setLoggerName(log.getName());
+        record.setParameters(new Object[] {SafeArg.of("path", keyPath)});
+        record.setThrown(throwable);
+        log.log(record);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import com.palantir.logsafe.Preconditions;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decrypted plaintext held outside of the Java heap. The plaintext is not copied by the garbage collector and is zeroed
+ * deterministically by {@link #close()}, after which it can no longer be accessed. Instances are created by
+ * {@link EncryptedValue#decryptToSecretBuffer(KeyWithType)}.
+ */
+public final class SecretBuffer implements AutoCloseable {
+    private final ByteBuffer buffer;
+    private boolean closed;
+
+    private SecretBuffer(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    static SecretBuffer decrypt(EncryptedValue value, KeyWithType kwt) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(value.maxPlaintextSize(kwt));
+        try {
+            value.decryptInto(kwt, buffer);
+        } catch (RuntimeException e) {
+            zero(buffer);
+            throw e;
+        }
+        buffer.flip();
+        return new SecretBuffer(buffer);
+    }
+
+    /**
+     * Returns the number of plaintext bytes.
+     */
+    public synchronized int size() {
+        checkOpen();
+        return buffer.limit();
+    }
+
+    /**
+     * Returns a read-only view of the UTF-8 encoded plaintext. The view must not be used after this buffer is closed.
+     */
+    public synchronized ByteBuffer asReadOnlyByteBuffer() {
+        checkOpen();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a heap copy of the UTF-8 encoded plaintext, which the caller should zero once it is no longer needed.
+     */
+    public synchronized byte[] toByteArray() {
+        checkOpen();
+        byte[] bytes = new byte[buffer.limit()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns the plaintext decoded as characters, which the caller should zero once they are no longer needed.
+     */
+    public synchronized char[] toChars() {
+        checkOpen();
+        CharBuffer chars = null;
+        try {
+            chars = StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(buffer.duplicate());
+            char[] result = new char[chars.remaining()];
+            chars.get(result);
+            return result;
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException("unable to decode plaintext", e);
+        } finally {
+            if (chars != null && chars.hasArray()) {
+                Arrays.fill(chars.array(), '\0');
+            }
+        }
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Zeroes the plaintext. Closing an already closed buffer has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            zero(buffer);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return closed ? "SecretBuffer{closed}" : "SecretBuffer{size=" + buffer.limit() + "}";
+    }
+
+    private void checkOpen() {
+        Preconditions.checkState(!closed, "secret buffer is closed");
+    }
+
+    private static void zero(ByteBuffer buffer) {
+        // the full capacity is zeroed, which may extend past the plaintext
+        ByteBuffer whole = buffer.duplicate().clear();
+        for (int i = 0; i < whole.capacity(); i++) {
+            whole.put(i, (byte) 0);
+        }
+    }
+}
@@ -20,6 +20,10 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import com.palantir.config.crypto.KeyPair;
 import com.palantir.config.crypto.algorithm.aes.AesGcmEncrypter;
 import com.palantir.config.crypto.algorithm.aes.AesKeyPair;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20KeyPair;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20Poly1305Encrypter;
+import com.palantir.config.crypto.algorithm.ecies.EciesEncrypter;
+import com.palantir.config.crypto.algorithm.ecies.EciesKeyPair;
 import com.palantir.config.crypto.algorithm.rsa.RsaKeyPair;
 import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
 
@@ -40,6 +44,18 @@ public enum Algorithm {
         public KeyPair newKeyPair() {
             return RsaKeyPair.newKeyPair();
         }
+    },
+    CHACHA20("CHACHA20", ChaCha20Poly1305Encrypter.INSTANCE) {
+        @Override
+        public KeyPair newKeyPair() {
+            return ChaCha20KeyPair.newKeyPair();
+        }
+    },
+    ECIES("ECIES", EciesEncrypter.INSTANCE) {
+        @Override
+        public KeyPair newKeyPair() {
+            return EciesKeyPair.newKeyPair();
+        }
     };
 
     private final String name;
@@ -22,6 +22,9 @@ import com.google.errorprone.annotations.CompileTimeConstant;
 import com.palantir.config.crypto.Key;
 import com.palantir.config.crypto.KeyWithType;
 import com.palantir.config.crypto.algorithm.aes.AesKey;
+import com.palantir.config.crypto.algorithm.chacha20.ChaCha20Key;
+import com.palantir.config.crypto.algorithm.ecies.EciesPrivateKey;
+import com.palantir.config.crypto.algorithm.ecies.EciesPublicKey;
 import com.palantir.config.crypto.algorithm.rsa.RsaPrivateKey;
 import com.palantir.config.crypto.algorithm.rsa.RsaPublicKey;
 import com.palantir.logsafe.Safe;
@@ -35,7 +38,10 @@ import com.palantir.logsafe.SafeArg;
 public enum KeyType {
     AES("AES", AesKey.AesKeyGenerator.INSTANCE, Algorithm.AES),
     RSA_PUBLIC("RSA-PUB", RsaPublicKey.RsaPublicKeyGenerator.INSTANCE, Algorithm.RSA),
-    RSA_PRIVATE("RSA-PRIV", RsaPrivateKey.RsaPrivateKeyGenerator.INSTANCE, Algorithm.RSA);
+    RSA_PRIVATE("RSA-PRIV", RsaPrivateKey.RsaPrivateKeyGenerator.INSTANCE, Algorithm.RSA),
+    CHACHA20("CHACHA20", ChaCha20Key.ChaCha20KeyGenerator.INSTANCE, Algorithm.CHACHA20),
+    ECIES_PUBLIC("ECIES-PUB", EciesPublicKey.EciesPublicKeyGenerator.INSTANCE, Algorithm.ECIES),
+    ECIES_PRIVATE("ECIES-PRIV", EciesPrivateKey.EciesPrivateKeyGenerator.INSTANCE, Algorithm.ECIES);
 
     public static KeyType from(String name) {
         for (KeyType alg : KeyType.values()) {
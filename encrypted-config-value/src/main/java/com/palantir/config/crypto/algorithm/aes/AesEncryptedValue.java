@@ -16,6 +16,10 @@
 
 package com.palantir.config.crypto.algorithm.aes;
 
+import static com.palantir.logsafe.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.palantir.config.crypto.EncryptedValue;
@@ -23,9 +27,13 @@ import com.palantir.config.crypto.EncryptedValueVisitor;
 import com.palantir.config.crypto.KeyWithType;
 import com.palantir.config.crypto.algorithm.Algorithm;
 import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.Aead;
+import com.palantir.config.crypto.util.AesGcm;
 import com.palantir.config.crypto.util.Suppliers;
-import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
+import com.palantir.logsafe.SafeArg;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import javax.annotation.Nullable;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
@@ -37,6 +45,11 @@ import org.immutables.value.Value;
 public abstract class AesEncryptedValue extends EncryptedValue {
     public enum Mode {
         GCM,
+        /**
+         * Deterministic AES-SIV (RFC 5297). The synthetic IV is stored as the IV and authenticates the value, so the
+         * tag is empty.
+         */
+        SIV,
     }
 
     public final Algorithm getType() {
@@ -57,24 +70,75 @@ public abstract class AesEncryptedValue extends EncryptedValue {
 
     public abstract byte[] getTag();
 
+    /**
+     * Returns the identifier of the key used to encrypt this value, or null if it was not recorded. Key ids are only
+     * recorded by encrypters that opt in, such as {@code withKeyId()}. See {@link com.palantir.config.crypto.Key#keyId()}.
+     */
+    @Nullable
+    @JsonProperty("key-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract String getKeyId();
+
+    @Value.Check
+    protected final void check() {
+        if (getMode() == Mode.SIV) {
+            checkArgument(
+                    getIv().length == AesSiv.SIV_SIZE_BYTES && getTag().length == 0,
+                    "SIV values must have a 16-byte iv and an empty tag",
+                    SafeArg.of("ivSize", getIv().length),
+                    SafeArg.of("tagSize", getTag().length));
+        }
+    }
+
     @Override
     public final String decrypt(KeyWithType kwt) {
+        return decodePlaintext(decryptToBytes(kwt));
+    }
+
+    @Override
+    public final byte[] decryptToBytes(KeyWithType kwt) {
         KeyType.AES.checkKeyArgument(kwt, AesKey.class);
         final SecretKey secretKeySpec = ((AesKey) kwt.getKey()).getSecretKey();
-        return Suppliers.silently(() -> {
-            // Java expects the tag at the end of the encrypted bytes.
-            byte[] ct = Arrays.copyOf(getCiphertext(), getCiphertext().length + getTag().length);
-            System.arraycopy(getTag(), 0, ct, getCiphertext().length, getTag().length);
+        return Suppliers.silently(() -> decryptToBytes(secretKeySpec));
+    }
 
-            GCMParameterSpec gcmSpecWithIv = new GCMParameterSpec(getTag().length * Byte.SIZE, getIv());
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            cipher.init(Cipher.DECRYPT_MODE, secretKeySpec, gcmSpecWithIv);
+    private byte[] decryptToBytes(SecretKey secretKeySpec) throws GeneralSecurityException {
+        if (getMode() == Mode.SIV) {
+            return AesSiv.decrypt(secretKeySpec, getIv(), getCiphertext());
+        }
+        byte[] tag = getTag();
+        GCMParameterSpec gcmSpecWithIv = new GCMParameterSpec(tag.length * Byte.SIZE, getIv());
+        byte[] ciphertext = getCiphertext();
+        return AesGcm.CIPHERS.apply(
+                Cipher.DECRYPT_MODE, secretKeySpec, gcmSpecWithIv, cipher -> Aead.decrypt(cipher, ciphertext, tag));
+    }
 
-            byte[] decrypted = cipher.doFinal(ct);
-            return new String(decrypted, StandardCharsets.UTF_8);
+    @Override
+    public final int decryptInto(KeyWithType kwt, ByteBuffer destination) {
+        KeyType.AES.checkKeyArgument(kwt, AesKey.class);
+        final SecretKey secretKeySpec = ((AesKey) kwt.getKey()).getSecretKey();
+        final byte[] ciphertext = getCiphertext();
+        checkDestination(destination, ciphertext.length);
+        if (getMode() == Mode.SIV) {
+            // the plaintext must be authenticated before any of it is released, so it is decrypted in full first
+            return super.decryptInto(kwt, destination);
+        }
+        return Suppliers.silently(() -> {
+            byte[] tag = getTag();
+            GCMParameterSpec gcmSpecWithIv = new GCMParameterSpec(tag.length * Byte.SIZE, getIv());
+            return AesGcm.CIPHERS.apply(
+                    Cipher.DECRYPT_MODE,
+                    secretKeySpec,
+                    gcmSpecWithIv,
+                    cipher -> Aead.decryptInto(cipher, ciphertext, tag, destination));
         });
     }
 
+    @Override
+    protected final int maxPlaintextSize(KeyWithType kwt) {
+        return getCiphertext().length;
+    }
+
     @Override
     public final <T> T accept(EncryptedValueVisitor<T> visitor) {
         return visitor.visit(this);
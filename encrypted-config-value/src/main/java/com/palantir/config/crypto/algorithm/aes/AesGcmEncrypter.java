@@ -21,13 +21,19 @@ import com.palantir.config.crypto.EncryptedValue;
 import com.palantir.config.crypto.KeyWithType;
 import com.palantir.config.crypto.algorithm.Encrypter;
 import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.AesGcm;
 import com.palantir.config.crypto.util.Suppliers;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
 import java.util.Arrays;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 
+/**
+ * Encrypts values using AES-GCM. {@link #INSTANCE} draws IVs from {@link IvSources#random()}; encrypters that draw IVs
+ * from another {@link IvSource} can be created with {@link #withIvSource(IvSource)}, and encrypters that record the key
+ * id with {@link #withKeyId()}. The two can be combined, for example
+ * {@code AesGcmEncrypter.withIvSource(IvSources.counter(1)).withKeyId()}.
+ */
 @Immutable
 public enum AesGcmEncrypter implements Encrypter {
     INSTANCE;
@@ -37,19 +43,40 @@ public enum AesGcmEncrypter implements Encrypter {
 
     @Override
     public final EncryptedValue encrypt(KeyWithType kwt, final String plaintext) {
+        return encrypt(kwt, plaintext, IvSources.random(), false);
+    }
+
+    /**
+     * Returns an encrypter that records the id of the encryption key in each value, which lets a
+     * {@link com.palantir.config.crypto.KeyRing} select the decryption key without trying each key. Values that record
+     * a key id cannot be parsed by versions of this library that predate the field.
+     */
+    public static IvSourceEncrypter withKeyId() {
+        return new IvSourceEncrypter(IvSources.random(), true);
+    }
+
+    /**
+     * Returns an encrypter that uses the provided source for IVs, for example {@link IvSources#counter(int)} when
+     * encrypting many values in bulk.
+     */
+    public static IvSourceEncrypter withIvSource(IvSource ivSource) {
+        return new IvSourceEncrypter(ivSource, false);
+    }
+
+    private static EncryptedValue encrypt(KeyWithType kwt, String plaintext, IvSource ivSource, boolean recordKeyId) {
         KeyType.AES.checkKeyArgument(kwt, AesKey.class);
         final SecretKey secretKeySpec = ((AesKey) kwt.getKey()).getSecretKey();
 
         return Suppliers.silently(() -> {
-            javax.crypto.Cipher cipher = javax.crypto.Cipher.getInstance("AES/GCM/NoPadding");
-
             byte[] ivBytes = new byte[IV_SIZE_BITS / Byte.SIZE];
-            SecureRandom secureRandom = new SecureRandom();
-            secureRandom.nextBytes(ivBytes);
+            ivSource.nextIv(ivBytes);
 
             GCMParameterSpec gcmSpecWithIv = new GCMParameterSpec(TAG_SIZE_BITS, ivBytes);
-            cipher.init(javax.crypto.Cipher.ENCRYPT_MODE, secretKeySpec, gcmSpecWithIv);
-            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = AesGcm.CIPHERS.apply(
+                    javax.crypto.Cipher.ENCRYPT_MODE,
+                    secretKeySpec,
+                    gcmSpecWithIv,
+                    cipher -> cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8)));
 
             // Java always appends tag to ciphertext, so split apart manually
             byte[] ciphertext = Arrays.copyOfRange(encrypted, 0, encrypted.length - (TAG_SIZE_BITS / Byte.SIZE));
@@ -60,7 +87,36 @@ public enum AesGcmEncrypter implements Encrypter {
                     .iv(ivBytes)
                     .ciphertext(ciphertext)
                     .tag(tag)
+                    .keyId(recordKeyId ? kwt.getKeyId() : null)
                     .build();
         });
     }
+
+    /** An AES-GCM encrypter with a configured {@link IvSource} and choice of whether to record the key id. */
+    // IV sources such as counters are stateful, but encrypting a value does not otherwise change the encrypter
+    @SuppressWarnings("Immutable")
+    public static final class IvSourceEncrypter implements Encrypter {
+        private final IvSource ivSource;
+        private final boolean recordKeyId;
+
+        private IvSourceEncrypter(IvSource ivSource, boolean recordKeyId) {
+            this.ivSource = ivSource;
+            this.recordKeyId = recordKeyId;
+        }
+
+        /** Returns an encrypter that uses the same IV source as this one and records the key id in each value. */
+        public IvSourceEncrypter withKeyId() {
+            return new IvSourceEncrypter(ivSource, true);
+        }
+
+        /** Returns an encrypter that records the key id if this one does and uses the provided source for IVs. */
+        public IvSourceEncrypter withIvSource(IvSource newIvSource) {
+            return new IvSourceEncrypter(newIvSource, recordKeyId);
+        }
+
+        @Override
+        public EncryptedValue encrypt(KeyWithType kwt, String plaintext) {
+            return AesGcmEncrypter.encrypt(kwt, plaintext, ivSource, recordKeyId);
+        }
+    }
 }
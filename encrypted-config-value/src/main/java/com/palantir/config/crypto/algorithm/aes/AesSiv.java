@@ -0,0 +1,182 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Deterministic authenticated encryption with AES-SIV (RFC 5297). The first half of the key authenticates the
+ * plaintext with S2V over AES-CMAC and the resulting synthetic IV is the counter for AES-CTR under the second half, so
+ * equal plaintexts under the same key always produce equal ciphertexts.
+ */
+final class AesSiv {
+    static final int KEY_SIZE_BYTES = 32;
+    static final int SIV_SIZE_BYTES = 16;
+
+    private static final int BLOCK_SIZE_BYTES = 16;
+    private static final byte[] ZERO_BLOCK = new byte[BLOCK_SIZE_BYTES];
+
+    private AesSiv() {}
+
+    static void checkKey(SecretKey secretKey) {
+        int keySize = secretKey.getEncoded().length;
+        Preconditions.checkArgument(
+                keySize == KEY_SIZE_BYTES, "AES-SIV requires a 256-bit key", SafeArg.of("keySizeBytes", keySize));
+    }
+
+    /**
+     * Encrypts the plaintext, returning the synthetic IV in {@code siv} and the ciphertext.
+     */
+    static byte[] encrypt(SecretKey secretKey, byte[] plaintext, byte[] siv, byte[]... associatedData)
+            throws GeneralSecurityException {
+        byte[] key = secretKey.getEncoded();
+        try {
+            byte[] v = s2v(macKey(key), plaintext, associatedData);
+            System.arraycopy(v, 0, siv, 0, SIV_SIZE_BYTES);
+            return ctr(key, v, plaintext);
+        } finally {
+            Arrays.fill(key, (byte) 0);
+        }
+    }
+
+    /**
+     * Decrypts the ciphertext, throwing {@link AEADBadTagException} if the synthetic IV does not authenticate it.
+     */
+    static byte[] decrypt(SecretKey secretKey, byte[] siv, byte[] ciphertext, byte[]... associatedData)
+            throws GeneralSecurityException {
+        byte[] key = secretKey.getEncoded();
+        try {
+            byte[] plaintext = ctr(key, siv, ciphertext);
+            byte[] expected = s2v(macKey(key), plaintext, associatedData);
+            if (!MessageDigest.isEqual(expected, siv)) {
+                Arrays.fill(plaintext, (byte) 0);
+                throw new AEADBadTagException("synthetic IV mismatch");
+            }
+            return plaintext;
+        } finally {
+            Arrays.fill(key, (byte) 0);
+        }
+    }
+
+    private static SecretKeySpec macKey(byte[] key) {
+        return new SecretKeySpec(key, 0, key.length / 2, "AES");
+    }
+
+    private static byte[] ctr(byte[] key, byte[] siv, byte[] input) throws GeneralSecurityException {
+        byte[] counter = siv.clone();
+        // RFC 5297 section 2.6: clear the 31st and 63rd bits (from the right) so implementations can use 32-bit adds
+        counter[8] &= 0x7f;
+        counter[12] &= 0x7f;
+        Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+        cipher.init(
+                Cipher.ENCRYPT_MODE,
+                new SecretKeySpec(key, key.length / 2, key.length / 2, "AES"),
+                new IvParameterSpec(counter));
+        return cipher.doFinal(input);
+    }
+
+    private static byte[] s2v(SecretKeySpec macKey, byte[] plaintext, byte[]... associatedData)
+            throws GeneralSecurityException {
+        Cmac cmac = new Cmac(macKey);
+        byte[] d = cmac.mac(ZERO_BLOCK);
+        for (byte[] data : associatedData) {
+            xorInto(dbl(d), cmac.mac(data), d);
+        }
+        byte[] t;
+        if (plaintext.length >= BLOCK_SIZE_BYTES) {
+            t = plaintext.clone();
+            int offset = t.length - BLOCK_SIZE_BYTES;
+            for (int i = 0; i < BLOCK_SIZE_BYTES; i++) {
+                t[offset + i] ^= d[i];
+            }
+        } else {
+            t = pad(plaintext);
+            xorInto(dbl(d), t, t);
+        }
+        return cmac.mac(t);
+    }
+
+    /** Doubling in GF(2^128) as defined in RFC 5297 section 2.3. */
+    private static byte[] dbl(byte[] block) {
+        byte[] result = new byte[BLOCK_SIZE_BYTES];
+        int carry = 0;
+        for (int i = BLOCK_SIZE_BYTES - 1; i >= 0; i--) {
+            int b = block[i] & 0xff;
+            result[i] = (byte) ((b << 1) | carry);
+            carry = b >>> 7;
+        }
+        result[BLOCK_SIZE_BYTES - 1] ^= (byte) (0x87 & -carry);
+        return result;
+    }
+
+    private static byte[] pad(byte[] input) {
+        byte[] padded = Arrays.copyOf(input, BLOCK_SIZE_BYTES);
+        padded[input.length] = (byte) 0x80;
+        return padded;
+    }
+
+    private static void xorInto(byte[] left, byte[] right, byte[] destination) {
+        for (int i = 0; i < BLOCK_SIZE_BYTES; i++) {
+            destination[i] = (byte) (left[i] ^ right[i]);
+        }
+    }
+
+    /** AES-CMAC (RFC 4493), which the JDK does not provide. */
+    private static final class Cmac {
+        private final Cipher cipher;
+        private final byte[] k1;
+        private final byte[] k2;
+
+        Cmac(SecretKeySpec key) throws GeneralSecurityException {
+            cipher = Cipher.getInstance("AES/ECB/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key);
+            k1 = dbl(cipher.doFinal(ZERO_BLOCK));
+            k2 = dbl(k1);
+        }
+
+        byte[] mac(byte[] message) throws GeneralSecurityException {
+            int blocks = Math.max(1, (message.length + BLOCK_SIZE_BYTES - 1) / BLOCK_SIZE_BYTES);
+            int lastOffset = (blocks - 1) * BLOCK_SIZE_BYTES;
+            byte[] last;
+            if (message.length > 0 && message.length % BLOCK_SIZE_BYTES == 0) {
+                last = Arrays.copyOfRange(message, lastOffset, message.length);
+                xorInto(last, k1, last);
+            } else {
+                last = pad(Arrays.copyOfRange(message, lastOffset, message.length));
+                xorInto(last, k2, last);
+            }
+            byte[] x = new byte[BLOCK_SIZE_BYTES];
+            for (int offset = 0; offset < lastOffset; offset += BLOCK_SIZE_BYTES) {
+                for (int i = 0; i < BLOCK_SIZE_BYTES; i++) {
+                    x[i] ^= message[offset + i];
+                }
+                cipher.update(x, 0, BLOCK_SIZE_BYTES, x, 0);
+            }
+            xorInto(x, last, x);
+            return cipher.doFinal(x);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+import com.google.errorprone.annotations.Immutable;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.Encrypter;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.Suppliers;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.SecretKey;
+
+/**
+ * Encrypts values deterministically using AES-SIV, so that the same plaintext encrypted with the same key always
+ * produces the same value. This lets identical secrets be deduplicated and decryptions be cached by ciphertext, at the
+ * cost of revealing which values are equal. Requires a 256-bit key.
+ */
+@Immutable
+public enum AesSivEncrypter implements Encrypter {
+    INSTANCE;
+
+    @Override
+    public final EncryptedValue encrypt(KeyWithType kwt, final String plaintext) {
+        KeyType.AES.checkKeyArgument(kwt, AesKey.class);
+        final SecretKey secretKey = ((AesKey) kwt.getKey()).getSecretKey();
+        AesSiv.checkKey(secretKey);
+
+        return Suppliers.silently(() -> {
+            byte[] siv = new byte[AesSiv.SIV_SIZE_BYTES];
+            byte[] ciphertext = AesSiv.encrypt(secretKey, plaintext.getBytes(StandardCharsets.UTF_8), siv);
+
+            return ImmutableAesEncryptedValue.builder()
+                    .mode(AesEncryptedValue.Mode.SIV)
+                    .iv(siv)
+                    .ciphertext(ciphertext)
+                    .tag(new byte[0])
+                    .keyId(kwt.getKeyId())
+                    .build();
+        });
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+/**
+ * Generates initialization vectors for AES-GCM encryption. Implementations must never return the same IV twice for
+ * values that are encrypted with the same key, and must be safe for concurrent use.
+ */
+@FunctionalInterface
+public interface IvSource {
+    /**
+     * Fills the provided array with the next IV.
+     */
+    void nextIv(byte[] iv);
+}
@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Standard {@link IvSource} implementations.
+ */
+public final class IvSources {
+    private IvSources() {}
+
+    /**
+     * Returns the shared source of random IVs. Each thread draws from its own DRBG instance, which is seeded once from
+     * the platform entropy source, so generating an IV neither constructs a {@link SecureRandom} nor contends with
+     * other threads.
+     */
+    public static IvSource random() {
+        return RandomIvSource.INSTANCE;
+    }
+
+    /**
+     * Returns a new source of IVs using the deterministic construction of NIST SP 800-38D section 8.2.1: the provided
+     * 32-bit fixed field followed by a 64-bit counter that starts at zero. Generating an IV does not touch a random
+     * number generator, which makes this source well suited to encrypting many values at once.
+     *
+     * The caller must ensure that the fixed field is unique among all sources, in any process, that are ever used with
+     * the same key, for example by assigning each bulk encryption job its own value. Two sources with the same fixed
+     * field produce the same IVs, and reusing an IV under a key breaks AES-GCM entirely; a randomly chosen fixed field
+     * does not satisfy this requirement. When that cannot be guaranteed, use {@link #random()}. The source refuses to
+     * produce IVs once its counter is exhausted. Only 96-bit IVs are supported.
+     */
+    public static IvSource counter(int fixedField) {
+        return new CounterIvSource(fixedField);
+    }
+
+    private enum RandomIvSource implements IvSource {
+        INSTANCE;
+
+        private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(RandomIvSource::newRandom);
+
+        @Override
+        public void nextIv(byte[] iv) {
+            RANDOM.get().nextBytes(iv);
+        }
+
+        private static SecureRandom newRandom() {
+            try {
+                return SecureRandom.getInstance("DRBG");
+            } catch (NoSuchAlgorithmException e) {
+                return new SecureRandom();
+            }
+        }
+    }
+
+    private static final class CounterIvSource implements IvSource {
+        private static final int FIXED_FIELD_SIZE = 4;
+        private static final int IV_SIZE = FIXED_FIELD_SIZE + Long.BYTES;
+
+        private final int fixedField;
+        private final AtomicLong counter = new AtomicLong();
+
+        private CounterIvSource(int fixedField) {
+            this.fixedField = fixedField;
+        }
+
+        @Override
+        public void nextIv(byte[] iv) {
+            Preconditions.checkArgument(
+                    iv.length == IV_SIZE,
+                    "counter IVs must be 96 bits",
+                    SafeArg.of("ivSizeBits", iv.length * Byte.SIZE));
+            long invocation = counter.getAndIncrement();
+            if (invocation < 0) {
+                // never wrap around, which would reuse IVs
+                counter.set(Long.MIN_VALUE);
+                throw new SafeIllegalStateException("IV counter exhausted; create a new IV source");
+            }
+            for (int i = 0; i < FIXED_FIELD_SIZE; i++) {
+                iv[i] = (byte) (fixedField >>> (Byte.SIZE * (FIXED_FIELD_SIZE - 1 - i)));
+            }
+            for (int i = IV_SIZE - 1; i >= FIXED_FIELD_SIZE; i--) {
+                iv[i] = (byte) invocation;
+                invocation >>>= Byte.SIZE;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.chacha20;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.EncryptedValueVisitor;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.Aead;
+import com.palantir.config.crypto.util.CipherCache.CipherOperation;
+import com.palantir.config.crypto.util.Suppliers;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import javax.annotation.Nullable;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import org.immutables.value.Value;
+
+@Value.Immutable
+@JsonDeserialize(as = ImmutableChaCha20EncryptedValue.class)
+@JsonSerialize(as = ChaCha20EncryptedValue.class)
+public abstract class ChaCha20EncryptedValue extends EncryptedValue {
+    public enum Mode {
+        POLY1305,
+    }
+
+    public final Algorithm getType() {
+        return Algorithm.CHACHA20;
+    }
+
+    /**
+     * Returns the encryption mode used by this encrypted value.
+     */
+    @Value.Default
+    public Mode getMode() {
+        return Mode.POLY1305;
+    }
+
+    public abstract byte[] getNonce();
+
+    public abstract byte[] getCiphertext();
+
+    public abstract byte[] getTag();
+
+    /**
+     * Returns the identifier of the key used to encrypt this value, or null if it was not recorded. See
+     * {@link com.palantir.config.crypto.Key#keyId()}.
+     */
+    @Nullable
+    @JsonProperty("key-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract String getKeyId();
+
+    @Override
+    public final String decrypt(KeyWithType kwt) {
+        return decodePlaintext(decryptToBytes(kwt));
+    }
+
+    @Override
+    public final byte[] decryptToBytes(KeyWithType kwt) {
+        KeyType.CHACHA20.checkKeyArgument(kwt, ChaCha20Key.class);
+        final SecretKey secretKey = ((ChaCha20Key) kwt.getKey()).getSecretKey();
+        return Suppliers.silently(() -> {
+            byte[] ciphertext = getCiphertext();
+            byte[] tag = getTag();
+            return decrypt(secretKey, cipher -> Aead.decrypt(cipher, ciphertext, tag));
+        });
+    }
+
+    @Override
+    public final int decryptInto(KeyWithType kwt, ByteBuffer destination) {
+        KeyType.CHACHA20.checkKeyArgument(kwt, ChaCha20Key.class);
+        final SecretKey secretKey = ((ChaCha20Key) kwt.getKey()).getSecretKey();
+        final byte[] ciphertext = getCiphertext();
+        checkDestination(destination, ciphertext.length);
+        return Suppliers.silently(() -> {
+            byte[] tag = getTag();
+            return decrypt(secretKey, cipher -> Aead.decryptInto(cipher, ciphertext, tag, destination));
+        });
+    }
+
+    @Override
+    protected final int maxPlaintextSize(KeyWithType kwt) {
+        return getCiphertext().length;
+    }
+
+    private <T> T decrypt(SecretKey secretKey, CipherOperation<T> operation) throws GeneralSecurityException {
+        return ChaCha20Poly1305.apply(Cipher.DECRYPT_MODE, secretKey, getNonce(), operation);
+    }
+
+    @Override
+    public final <T> T accept(EncryptedValueVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.chacha20;
+
+import com.google.errorprone.annotations.Immutable;
+import com.palantir.config.crypto.ImmutableKeyWithType;
+import com.palantir.config.crypto.Key;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.KeyGenerator;
+import com.palantir.config.crypto.algorithm.KeyType;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+public final class ChaCha20Key implements Key {
+    static final String ALGORITHM = "ChaCha20";
+
+    private final SecretKey secretKey;
+
+    public ChaCha20Key(SecretKey secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    public SecretKey getSecretKey() {
+        return secretKey;
+    }
+
+    @Override
+    public byte[] bytes() {
+        return secretKey.getEncoded();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+
+        if (obj.getClass() != this.getClass()) {
+            return false;
+        }
+
+        final ChaCha20Key other = (ChaCha20Key) obj;
+        return secretKey.equals(other.getSecretKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return secretKey.hashCode();
+    }
+
+    @Immutable
+    public enum ChaCha20KeyGenerator implements KeyGenerator {
+        INSTANCE;
+
+        @Override
+        public KeyWithType keyFromBytes(byte[] key) {
+            SecretKeySpec localSecretKey = new SecretKeySpec(key, ALGORITHM);
+            return ImmutableKeyWithType.builder()
+                    .type(KeyType.CHACHA20)
+                    .key(new ChaCha20Key(localSecretKey))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.chacha20;
+
+import com.palantir.config.crypto.util.CipherCache.CipherOperation;
+import java.security.GeneralSecurityException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * Parameters shared by ChaCha20-Poly1305 encryption and decryption.
+ */
+final class ChaCha20Poly1305 {
+    static final String TRANSFORMATION = "ChaCha20-Poly1305";
+    static final int NONCE_SIZE_BYTES = 12;
+    static final int TAG_SIZE_BYTES = 16;
+
+    private ChaCha20Poly1305() {}
+
+    static <T> T apply(int opmode, SecretKey key, byte[] nonce, CipherOperation<T> operation)
+            throws GeneralSecurityException {
+        // ciphers are not reused through CipherCache: the JDK provider refuses to re-initialize a ChaCha20 cipher with
+        // the key and nonce it was last initialized with, even to decrypt the value it just encrypted
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(opmode, key, new IvParameterSpec(nonce));
+        return operation.apply(cipher);
+    }
+}
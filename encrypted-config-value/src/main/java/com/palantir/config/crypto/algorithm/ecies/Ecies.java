@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.palantir.config.crypto.util.AesGcm;
+import com.palantir.config.crypto.util.CipherCache.CipherOperation;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Arrays;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * The ECIES construction: an X25519 agreement between an ephemeral and a recipient key, expanded with HKDF-SHA256 into
+ * a single-use AES-256 key and GCM IV.
+ */
+final class Ecies {
+    static final int TAG_SIZE_BYTES = 16;
+
+    private static final int AES_KEY_SIZE_BYTES = 32;
+    private static final int IV_SIZE_BYTES = 12;
+    private static final byte[] INFO = "encrypted-config-value ecies x25519 aes-gcm".getBytes(StandardCharsets.UTF_8);
+
+    private Ecies() {}
+
+    /**
+     * Applies the provided operation to an AES-GCM cipher keyed from the agreement between the private and public key.
+     * The ephemeral public key is used as the HKDF salt, binding the derived key to this value.
+     */
+    static <T> T apply(
+            int opmode,
+            PrivateKey privateKey,
+            PublicKey publicKey,
+            byte[] ephemeralPublicKey,
+            CipherOperation<T> operation)
+            throws GeneralSecurityException {
+        byte[] sharedSecret = X25519.agree(privateKey, publicKey);
+        byte[] keyMaterial =
+                Hkdf.deriveSha256(sharedSecret, ephemeralPublicKey, INFO, AES_KEY_SIZE_BYTES + IV_SIZE_BYTES);
+        try {
+            // every value has its own derived key, so there is nothing for CipherCache to reuse
+            Cipher cipher = Cipher.getInstance(AesGcm.TRANSFORMATION);
+            cipher.init(
+                    opmode,
+                    new SecretKeySpec(keyMaterial, 0, AES_KEY_SIZE_BYTES, "AES"),
+                    new GCMParameterSpec(TAG_SIZE_BYTES * Byte.SIZE, keyMaterial, AES_KEY_SIZE_BYTES, IV_SIZE_BYTES));
+            return operation.apply(cipher);
+        } finally {
+            Arrays.fill(sharedSecret, (byte) 0);
+            Arrays.fill(keyMaterial, (byte) 0);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.EncryptedValueVisitor;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.Aead;
+import com.palantir.config.crypto.util.CipherCache.CipherOperation;
+import com.palantir.config.crypto.util.Suppliers;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import javax.annotation.Nullable;
+import javax.crypto.Cipher;
+import org.immutables.value.Value;
+
+@Value.Immutable
+@JsonDeserialize(as = ImmutableEciesEncryptedValue.class)
+@JsonSerialize(as = EciesEncryptedValue.class)
+public abstract class EciesEncryptedValue extends EncryptedValue {
+    public enum Mode {
+        X25519_AES_GCM,
+    }
+
+    public final Algorithm getType() {
+        return Algorithm.ECIES;
+    }
+
+    /**
+     * Returns the encryption mode used by this encrypted value.
+     */
+    @Value.Default
+    public Mode getMode() {
+        return Mode.X25519_AES_GCM;
+    }
+
+    /**
+     * Returns the 32-byte X25519 public key of the ephemeral key pair the value was encrypted with.
+     */
+    @JsonProperty("ephemeral-public-key")
+    public abstract byte[] getEphemeralPublicKey();
+
+    public abstract byte[] getCiphertext();
+
+    public abstract byte[] getTag();
+
+    /**
+     * Returns the identifier of the key used to encrypt this value, or null if it was not recorded. See
+     * {@link com.palantir.config.crypto.Key#keyId()}.
+     */
+    @Nullable
+    @JsonProperty("key-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract String getKeyId();
+
+    @Override
+    public final String decrypt(KeyWithType kwt) {
+        return decodePlaintext(decryptToBytes(kwt));
+    }
+
+    @Override
+    public final byte[] decryptToBytes(KeyWithType kwt) {
+        KeyType.ECIES_PRIVATE.checkKeyArgument(kwt, EciesPrivateKey.class);
+        final PrivateKey privateKey = ((EciesPrivateKey) kwt.getKey()).getPrivateKey();
+        return Suppliers.silently(() -> {
+            byte[] ciphertext = getCiphertext();
+            byte[] tag = getTag();
+            return decrypt(privateKey, cipher -> Aead.decrypt(cipher, ciphertext, tag));
+        });
+    }
+
+    @Override
+    public final int decryptInto(KeyWithType kwt, ByteBuffer destination) {
+        KeyType.ECIES_PRIVATE.checkKeyArgument(kwt, EciesPrivateKey.class);
+        final PrivateKey privateKey = ((EciesPrivateKey) kwt.getKey()).getPrivateKey();
+        final byte[] ciphertext = getCiphertext();
+        checkDestination(destination, ciphertext.length);
+        return Suppliers.silently(() -> {
+            byte[] tag = getTag();
+            return decrypt(privateKey, cipher -> Aead.decryptInto(cipher, ciphertext, tag, destination));
+        });
+    }
+
+    @Override
+    protected final int maxPlaintextSize(KeyWithType kwt) {
+        return getCiphertext().length;
+    }
+
+    private <T> T decrypt(PrivateKey privateKey, CipherOperation<T> operation) throws GeneralSecurityException {
+        byte[] ephemeralPublicKey = getEphemeralPublicKey();
+        return Ecies.apply(
+                Cipher.DECRYPT_MODE, privateKey, X25519.publicKey(ephemeralPublicKey), ephemeralPublicKey, operation);
+    }
+
+    @Override
+    public final <T> T accept(EncryptedValueVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.google.errorprone.annotations.Immutable;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.Encrypter;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.Aead;
+import com.palantir.config.crypto.util.Suppliers;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import javax.crypto.Cipher;
+
+/**
+ * Encrypts values to an X25519 public key using a fresh ephemeral key pair per value. Decryption costs a single X25519
+ * agreement, which is far cheaper than an RSA-2048 private key operation.
+ */
+@Immutable
+public enum EciesEncrypter implements Encrypter {
+    INSTANCE;
+
+    @Override
+    public final EncryptedValue encrypt(KeyWithType kwt, final String plaintext) {
+        KeyType.ECIES_PUBLIC.checkKeyArgument(kwt, EciesPublicKey.class);
+        final PublicKey publicKey = ((EciesPublicKey) kwt.getKey()).getPublicKey();
+
+        return Suppliers.silently(() -> {
+            java.security.KeyPair ephemeral =
+                    KeyPairGenerator.getInstance(X25519.ALGORITHM).generateKeyPair();
+            byte[] ephemeralPublicKey = X25519.publicKeyBytes(ephemeral.getPublic());
+
+            byte[] encrypted = Ecies.apply(
+                    Cipher.ENCRYPT_MODE,
+                    ephemeral.getPrivate(),
+                    publicKey,
+                    ephemeralPublicKey,
+                    cipher -> cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8)));
+
+            return ImmutableEciesEncryptedValue.builder()
+                    .ephemeralPublicKey(ephemeralPublicKey)
+                    .ciphertext(Aead.ciphertext(encrypted, Ecies.TAG_SIZE_BYTES))
+                    .tag(Aead.tag(encrypted, Ecies.TAG_SIZE_BYTES))
+                    .keyId(kwt.getKeyId())
+                    .build();
+        });
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.palantir.config.crypto.ImmutableKeyWithType;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+
+public final class EciesKeyPair {
+
+    public static KeyPair newKeyPair() {
+        KeyPairGenerator keyPairGenerator;
+        try {
+            keyPairGenerator = KeyPairGenerator.getInstance(X25519.ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new SafeRuntimeException(e);
+        }
+
+        java.security.KeyPair x25519KeyPair = keyPairGenerator.generateKeyPair();
+
+        KeyWithType pub = ImmutableKeyWithType.builder()
+                .type(KeyType.ECIES_PUBLIC)
+                .key(new EciesPublicKey(x25519KeyPair.getPublic()))
+                .build();
+
+        KeyWithType priv = ImmutableKeyWithType.builder()
+                .type(KeyType.ECIES_PRIVATE)
+                .key(new EciesPrivateKey(x25519KeyPair.getPrivate()))
+                .build();
+
+        return KeyPair.of(pub, priv);
+    }
+
+    private EciesKeyPair() {}
+}
@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.google.errorprone.annotations.Immutable;
+import com.palantir.config.crypto.ImmutableKeyWithType;
+import com.palantir.config.crypto.Key;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.KeyGenerator;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.KeyIds;
+import com.palantir.config.crypto.util.Suppliers;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.security.PrivateKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+
+public final class EciesPrivateKey implements Key {
+    private final PrivateKey privateKey;
+
+    public EciesPrivateKey(PrivateKey privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public PrivateKey getPrivateKey() {
+        return privateKey;
+    }
+
+    /**
+     * Returns the PKCS#8 encoding of the key.
+     */
+    @Override
+    public byte[] bytes() {
+        return privateKey.getEncoded();
+    }
+
+    /**
+     * Returns an identifier derived from the X25519 public key, which is shared by the public and private key of a
+     * pair.
+     */
+    @Override
+    public String keyId() {
+        return KeyIds.fromKeyMaterial(Suppliers.silently(() -> X25519.publicKeyBytes(privateKey)));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+
+        if (obj.getClass() != this.getClass()) {
+            return false;
+        }
+
+        final EciesPrivateKey other = (EciesPrivateKey) obj;
+        return privateKey.equals(other.getPrivateKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return privateKey.hashCode();
+    }
+
+    @Immutable
+    public enum EciesPrivateKeyGenerator implements KeyGenerator {
+        INSTANCE;
+
+        @Override
+        public KeyWithType keyFromBytes(byte[] key) {
+            PrivateKey localPrivateKey;
+            try {
+                localPrivateKey = X25519.keyFactory().generatePrivate(new PKCS8EncodedKeySpec(key));
+            } catch (InvalidKeySpecException e) {
+                throw new SafeRuntimeException(e);
+            }
+            return ImmutableKeyWithType.builder()
+                    .type(KeyType.ECIES_PRIVATE)
+                    .key(new EciesPrivateKey(localPrivateKey))
+                    .build();
+        }
+    }
+}
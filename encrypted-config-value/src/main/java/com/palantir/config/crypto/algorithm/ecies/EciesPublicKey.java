@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.google.errorprone.annotations.Immutable;
+import com.palantir.config.crypto.ImmutableKeyWithType;
+import com.palantir.config.crypto.Key;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.KeyGenerator;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.KeyIds;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+
+public final class EciesPublicKey implements Key {
+    private final PublicKey publicKey;
+
+    public EciesPublicKey(PublicKey publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * Returns the X.509 encoding of the key.
+     */
+    @Override
+    public byte[] bytes() {
+        return publicKey.getEncoded();
+    }
+
+    /**
+     * Returns an identifier derived from the X25519 public key, which is shared by the public and private key of a
+     * pair.
+     */
+    @Override
+    public String keyId() {
+        return KeyIds.fromKeyMaterial(X25519.publicKeyBytes(publicKey));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+
+        if (obj.getClass() != this.getClass()) {
+            return false;
+        }
+
+        final EciesPublicKey other = (EciesPublicKey) obj;
+        return publicKey.equals(other.getPublicKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return publicKey.hashCode();
+    }
+
+    @Immutable
+    public enum EciesPublicKeyGenerator implements KeyGenerator {
+        INSTANCE;
+
+        @Override
+        public KeyWithType keyFromBytes(byte[] key) {
+            PublicKey localPublicKey;
+            try {
+                localPublicKey = X25519.keyFactory().generatePublic(new X509EncodedKeySpec(key));
+            } catch (InvalidKeySpecException e) {
+                throw new SafeRuntimeException(e);
+            }
+            return ImmutableKeyWithType.builder()
+                    .type(KeyType.ECIES_PUBLIC)
+                    .key(new EciesPublicKey(localPublicKey))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.security.GeneralSecurityException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HKDF with HMAC-SHA256 (RFC 5869).
+ */
+final class Hkdf {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HASH_SIZE_BYTES = 32;
+
+    private Hkdf() {}
+
+    static byte[] deriveSha256(byte[] inputKeyMaterial, byte[] salt, byte[] info, int length)
+            throws GeneralSecurityException {
+        Preconditions.checkArgument(
+                length > 0 && length <= 255 * HASH_SIZE_BYTES,
+                "invalid HKDF output length",
+                SafeArg.of("length", length));
+        Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+
+        // extract; an empty salt is replaced by a block of zeros
+        mac.init(new SecretKeySpec(salt.length == 0 ? new byte[HASH_SIZE_BYTES] : salt, HMAC_ALGORITHM));
+        byte[] pseudoRandomKey = mac.doFinal(inputKeyMaterial);
+
+        // expand
+        mac.init(new SecretKeySpec(pseudoRandomKey, HMAC_ALGORITHM));
+        byte[] output = new byte[length];
+        byte[] block = new byte[0];
+        int offset = 0;
+        for (int counter = 1; offset < length; counter++) {
+            mac.update(block);
+            mac.update(info);
+            mac.update((byte) counter);
+            block = mac.doFinal();
+            int size = Math.min(block.length, length - offset);
+            System.arraycopy(block, 0, output, offset, size);
+            offset += size;
+        }
+        return output;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.XECPublicKey;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.XECPublicKeySpec;
+import javax.crypto.KeyAgreement;
+
+/**
+ * X25519 operations (RFC 7748) on JDK keys. Public keys are exchanged as their 32-byte little-endian u-coordinate.
+ */
+final class X25519 {
+    static final String ALGORITHM = "X25519";
+    static final int KEY_SIZE_BYTES = 32;
+
+    private static final BigInteger BASE_POINT_U = BigInteger.valueOf(9);
+    private static final ThreadLocal<KeyFactory> KEY_FACTORY = ThreadLocal.withInitial(() -> {
+        try {
+            return KeyFactory.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new SafeRuntimeException(e);
+        }
+    });
+
+    private X25519() {}
+
+    static KeyFactory keyFactory() {
+        return KEY_FACTORY.get();
+    }
+
+    static byte[] agree(PrivateKey privateKey, PublicKey publicKey) throws GeneralSecurityException {
+        KeyAgreement keyAgreement = KeyAgreement.getInstance(ALGORITHM);
+        keyAgreement.init(privateKey);
+        keyAgreement.doPhase(publicKey, true);
+        return keyAgreement.generateSecret();
+    }
+
+    /**
+     * Returns the u-coordinate of the public key that corresponds to the private key, computed as the X25519 function
+     * of the private key and the base point.
+     */
+    static byte[] publicKeyBytes(PrivateKey privateKey) throws GeneralSecurityException {
+        return agree(privateKey, publicKey(BASE_POINT_U));
+    }
+
+    static byte[] publicKeyBytes(PublicKey publicKey) {
+        BigInteger u = ((XECPublicKey) publicKey).getU();
+        byte[] bigEndian = u.toByteArray();
+        byte[] littleEndian = new byte[KEY_SIZE_BYTES];
+        // toByteArray may include a leading sign byte, which is never part of the 255-bit coordinate
+        for (int i = 0; i < Math.min(bigEndian.length, KEY_SIZE_BYTES); i++) {
+            littleEndian[i] = bigEndian[bigEndian.length - 1 - i];
+        }
+        return littleEndian;
+    }
+
+    static PublicKey publicKey(byte[] littleEndian) throws GeneralSecurityException {
+        Preconditions.checkArgument(
+                littleEndian.length == KEY_SIZE_BYTES,
+                "X25519 public keys must be 32 bytes",
+                SafeArg.of("length", littleEndian.length));
+        byte[] bigEndian = new byte[KEY_SIZE_BYTES];
+        for (int i = 0; i < KEY_SIZE_BYTES; i++) {
+            bigEndian[i] = littleEndian[KEY_SIZE_BYTES - 1 - i];
+        }
+        // RFC 7748 section 5: the most significant bit of the final byte is masked
+        bigEndian[0] &= 0x7f;
+        return publicKey(new BigInteger(1, bigEndian));
+    }
+
+    private static PublicKey publicKey(BigInteger u) throws GeneralSecurityException {
+        return keyFactory().generatePublic(new XECPublicKeySpec(NamedParameterSpec.X25519, u));
+    }
+}
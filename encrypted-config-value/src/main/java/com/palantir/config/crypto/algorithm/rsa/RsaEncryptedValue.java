@@ -16,6 +16,9 @@
 
 package com.palantir.config.crypto.algorithm.rsa;
 
+import static com.palantir.logsafe.Preconditions.checkArgument;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -25,12 +28,12 @@ import com.palantir.config.crypto.KeyWithType;
 import com.palantir.config.crypto.algorithm.Algorithm;
 import com.palantir.config.crypto.algorithm.KeyType;
 import com.palantir.config.crypto.util.Suppliers;
-import java.nio.charset.StandardCharsets;
+import com.palantir.logsafe.SafeArg;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
 import java.security.PrivateKey;
-import java.security.spec.MGF1ParameterSpec;
+import javax.annotation.Nullable;
 import javax.crypto.Cipher;
-import javax.crypto.spec.OAEPParameterSpec;
-import javax.crypto.spec.PSource;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -40,6 +43,11 @@ public abstract class RsaEncryptedValue extends EncryptedValue {
 
     public enum Mode {
         OAEP,
+        /**
+         * The value is encrypted with AES-GCM under a data key, which is itself encrypted with RSA-OAEP and stored in
+         * {@link #getWrappedKey()}.
+         */
+        ENVELOPE,
     }
 
     public final Algorithm getType() {
@@ -54,6 +62,10 @@ public abstract class RsaEncryptedValue extends EncryptedValue {
         return Mode.OAEP;
     }
 
+    /**
+     * Returns the RSA-OAEP ciphertext for {@link Mode#OAEP} values, or the AES-GCM ciphertext (without the tag) for
+     * {@link Mode#ENVELOPE} values.
+     */
     public abstract byte[] getCiphertext();
 
     @JsonProperty("oaep-alg")
@@ -62,22 +74,99 @@ public abstract class RsaEncryptedValue extends EncryptedValue {
     @JsonProperty("mdf1-alg")
     public abstract RsaOaepEncrypter.HashAlgorithm getMdf1HashAlg();
 
+    /**
+     * Returns the identifier of the key used to encrypt this value, or null if it was not recorded. Key ids are only
+     * recorded by encrypters that opt in, such as {@code withKeyId()}. See {@link com.palantir.config.crypto.Key#keyId()}.
+     */
+    @Nullable
+    @JsonProperty("key-id")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract String getKeyId();
+
+    /**
+     * Returns the RSA-OAEP encrypted data key for {@link Mode#ENVELOPE} values, or null for {@link Mode#OAEP} values.
+     */
+    @Nullable
+    @JsonProperty("wrapped-key")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract byte[] getWrappedKey();
+
+    /**
+     * Returns the AES-GCM IV for {@link Mode#ENVELOPE} values, or null for {@link Mode#OAEP} values.
+     */
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract byte[] getIv();
+
+    /**
+     * Returns the AES-GCM tag for {@link Mode#ENVELOPE} values, or null for {@link Mode#OAEP} values.
+     */
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public abstract byte[] getTag();
+
+    @Value.Check
+    protected final void check() {
+        boolean envelope = getMode() == Mode.ENVELOPE;
+        checkArgument(
+                envelope == (getWrappedKey() != null)
+                        && envelope == (getIv() != null)
+                        && envelope == (getTag() != null),
+                "wrapped-key, iv and tag must be present for envelope values and absent otherwise",
+                SafeArg.of("mode", getMode()));
+    }
+
     @Override
     public final String decrypt(KeyWithType kwt) {
+        return decodePlaintext(decryptToBytes(kwt));
+    }
+
+    @Override
+    public final byte[] decryptToBytes(KeyWithType kwt) {
         KeyType.RSA_PRIVATE.checkKeyArgument(kwt, RsaPrivateKey.class);
         final PrivateKey privateKey = ((RsaPrivateKey) kwt.getKey()).getPrivateKey();
-        return Suppliers.silently(() -> {
-            Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
-            OAEPParameterSpec oaepParams = new OAEPParameterSpec(
-                    getOaepHashAlg().toString(),
-                    "MGF1",
-                    new MGF1ParameterSpec(getMdf1HashAlg().toString()),
-                    PSource.PSpecified.DEFAULT);
-            cipher.init(Cipher.DECRYPT_MODE, privateKey, oaepParams);
-
-            byte[] decrypted = cipher.doFinal(getCiphertext());
-            return new String(decrypted, StandardCharsets.UTF_8);
-        });
+        return Suppliers.silently(() -> decryptToBytes(kwt.getKeyId(), privateKey));
+    }
+
+    /**
+     * Discards the data keys that were unwrapped to decrypt {@link Mode#ENVELOPE} values, for example after the RSA
+     * keys have been rotated. Unwrapped data keys also expire on their own a few minutes after they are cached.
+     */
+    public static void invalidateDataKeys() {
+        RsaEnvelope.invalidateDataKeys();
+    }
+
+    private byte[] decryptToBytes(String keyId, PrivateKey privateKey) throws GeneralSecurityException {
+        switch (getMode()) {
+            case ENVELOPE:
+                return RsaEnvelope.decrypt(keyId, privateKey, this);
+            case OAEP:
+            default:
+                return RsaOaep.CIPHERS.apply(
+                        Cipher.DECRYPT_MODE,
+                        privateKey,
+                        RsaOaep.parameterSpec(getOaepHashAlg(), getMdf1HashAlg()),
+                        cipher -> cipher.doFinal(getCiphertext()));
+        }
+    }
+
+    @Override
+    public final int decryptInto(KeyWithType kwt, ByteBuffer destination) {
+        if (getMode() != Mode.ENVELOPE) {
+            // RSA ciphers require room for a full modulus of output, so decrypt OAEP values to an array first
+            return super.decryptInto(kwt, destination);
+        }
+        KeyType.RSA_PRIVATE.checkKeyArgument(kwt, RsaPrivateKey.class);
+        final PrivateKey privateKey = ((RsaPrivateKey) kwt.getKey()).getPrivateKey();
+        final byte[] ciphertext = getCiphertext();
+        checkDestination(destination, ciphertext.length);
+        return Suppliers.silently(
+                () -> RsaEnvelope.decryptInto(kwt.getKeyId(), privateKey, this, ciphertext, destination));
+    }
+
+    @Override
+    protected final int maxPlaintextSize(KeyWithType kwt) {
+        return getCiphertext().length;
     }
 
     @Override
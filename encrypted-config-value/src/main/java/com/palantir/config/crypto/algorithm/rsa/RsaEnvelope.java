@@ -0,0 +1,183 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.palantir.config.crypto.algorithm.aes.IvSources;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter.HashAlgorithm;
+import com.palantir.config.crypto.util.Aead;
+import com.palantir.config.crypto.util.AesGcm;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Envelope encryption for RSA keys: values are encrypted with AES-GCM under a random data key, and the data key is
+ * wrapped with RSA-OAEP. Unwrapped data keys are cached by the decrypting key and the digest of the wrapped key, so
+ * all values that share a data key cost a single RSA operation to decrypt. Cached data keys expire after a fixed
+ * period, and are discarded when the RSA keys are rotated.
+ */
+final class RsaEnvelope {
+    private static final HashAlgorithm OAEP_HASH_ALG = HashAlgorithm.SHA256;
+    private static final HashAlgorithm MDF1_HASH_ALG = HashAlgorithm.SHA256;
+    private static final int DATA_KEY_SIZE_BITS = 256;
+    private static final int IV_SIZE_BITS = 96;
+    private static final int TAG_SIZE_BITS = 128;
+    // well below the 2^32 messages that may be encrypted under one key with random 96-bit IVs
+    private static final long MAX_USES_PER_DATA_KEY = 1L << 24;
+    private static final int MAX_CACHED_DATA_KEYS = 1024;
+    private static final Duration DATA_KEY_TTL = Duration.ofMinutes(10);
+
+    private static final Cache<String, SecretKey> UNWRAPPED_DATA_KEYS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_DATA_KEYS)
+            .expireAfterWrite(DATA_KEY_TTL)
+            .build();
+
+    private RsaEnvelope() {}
+
+    static DataKey newDataKey(PublicKey publicKey) throws GeneralSecurityException {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(DATA_KEY_SIZE_BITS);
+        SecretKey secretKey = keyGenerator.generateKey();
+        byte[] wrappedKey = RsaOaep.CIPHERS.apply(
+                Cipher.ENCRYPT_MODE,
+                publicKey,
+                RsaOaep.parameterSpec(OAEP_HASH_ALG, MDF1_HASH_ALG),
+                cipher -> cipher.doFinal(secretKey.getEncoded()));
+        return new DataKey(publicKey, secretKey, wrappedKey);
+    }
+
+    static RsaEncryptedValue encrypt(DataKey dataKey, String keyId, byte[] plaintext) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_SIZE_BITS / Byte.SIZE];
+        IvSources.random().nextIv(iv);
+        byte[] encrypted = AesGcm.CIPHERS.apply(
+                Cipher.ENCRYPT_MODE,
+                dataKey.secretKey,
+                new GCMParameterSpec(TAG_SIZE_BITS, iv),
+                cipher -> cipher.doFinal(plaintext));
+
+        // Java always appends tag to ciphertext, so split apart manually
+        int tagStart = encrypted.length - (TAG_SIZE_BITS / Byte.SIZE);
+        return ImmutableRsaEncryptedValue.builder()
+                .mode(RsaEncryptedValue.Mode.ENVELOPE)
+                .ciphertext(Arrays.copyOfRange(encrypted, 0, tagStart))
+                .oaepHashAlg(OAEP_HASH_ALG)
+                .mdf1HashAlg(MDF1_HASH_ALG)
+                .wrappedKey(dataKey.wrappedKey)
+                .iv(iv)
+                .tag(Arrays.copyOfRange(encrypted, tagStart, encrypted.length))
+                .keyId(keyId)
+                .build();
+    }
+
+    static byte[] decrypt(String keyId, PrivateKey privateKey, RsaEncryptedValue value)
+            throws GeneralSecurityException {
+        byte[] ciphertext = value.getCiphertext();
+        byte[] tag = value.getTag();
+        return AesGcm.CIPHERS.apply(
+                Cipher.DECRYPT_MODE,
+                unwrap(keyId, privateKey, value),
+                new GCMParameterSpec(tag.length * Byte.SIZE, value.getIv()),
+                cipher -> Aead.decrypt(cipher, ciphertext, tag));
+    }
+
+    static int decryptInto(
+            String keyId, PrivateKey privateKey, RsaEncryptedValue value, byte[] ciphertext, ByteBuffer destination)
+            throws GeneralSecurityException {
+        byte[] tag = value.getTag();
+        return AesGcm.CIPHERS.apply(
+                Cipher.DECRYPT_MODE,
+                unwrap(keyId, privateKey, value),
+                new GCMParameterSpec(tag.length * Byte.SIZE, value.getIv()),
+                cipher -> Aead.decryptInto(cipher, ciphertext, tag, destination));
+    }
+
+    static void invalidateDataKeys() {
+        UNWRAPPED_DATA_KEYS.invalidateAll();
+    }
+
+    static long cachedDataKeys() {
+        UNWRAPPED_DATA_KEYS.cleanUp();
+        return UNWRAPPED_DATA_KEYS.size();
+    }
+
+    private static SecretKey unwrap(String keyId, PrivateKey privateKey, RsaEncryptedValue value)
+            throws GeneralSecurityException {
+        byte[] wrappedKey = value.getWrappedKey();
+        // the decrypting key is part of the cache key so that a data key is never handed out for the wrong key
+        String cacheKey = keyId + ':' + Hashing.sha256().hashBytes(wrappedKey);
+        SecretKey cached = UNWRAPPED_DATA_KEYS.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        byte[] keyBytes = RsaOaep.CIPHERS.apply(
+                Cipher.DECRYPT_MODE,
+                privateKey,
+                RsaOaep.parameterSpec(value.getOaepHashAlg(), value.getMdf1HashAlg()),
+                cipher -> cipher.doFinal(wrappedKey));
+        try {
+            if (keyBytes.length != DATA_KEY_SIZE_BITS / Byte.SIZE) {
+                throw new SafeIllegalArgumentException(
+                        "unwrapped data key has an unexpected length", SafeArg.of("length", keyBytes.length));
+            }
+            SecretKey dataKey = new SecretKeySpec(keyBytes, "AES");
+            UNWRAPPED_DATA_KEYS.put(cacheKey, dataKey);
+            return dataKey;
+        } finally {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    /**
+     * A data key along with its wrapped form. A data key is used for a bounded number of values before a new one
+     * must be generated.
+     */
+    static final class DataKey {
+        private final PublicKey publicKey;
+        private final SecretKey secretKey;
+        private final byte[] wrappedKey;
+        private final AtomicLong uses = new AtomicLong();
+
+        private DataKey(PublicKey publicKey, SecretKey secretKey, byte[] wrappedKey) {
+            this.publicKey = publicKey;
+            this.secretKey = secretKey;
+            this.wrappedKey = wrappedKey;
+        }
+
+        /**
+         * Returns true and records a use if this data key was wrapped with the provided key and has not been used
+         * for the maximum number of values.
+         */
+        boolean tryUse(PublicKey key) {
+            return (publicKey == key || publicKey.equals(key)) && uses.incrementAndGet() <= MAX_USES_PER_DATA_KEY;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+/**
+ * The DER structures used to store RSA keys. The structure of an encoded key can be determined from its ASN.1 header
+ * without parsing the key: both structures are a SEQUENCE, but a PKCS#8 PrivateKeyInfo starts with an INTEGER version
+ * while an X.509 SubjectPublicKeyInfo starts with an AlgorithmIdentifier SEQUENCE.
+ */
+public enum RsaKeyEncoding {
+    PKCS8,
+    X509,
+    UNKNOWN;
+
+    private static final byte SEQUENCE_TAG = 0x30;
+    private static final byte INTEGER_TAG = 0x02;
+    private static final int LONG_FORM_LENGTH_FLAG = 0x80;
+    private static final int MAX_LENGTH_BYTES = 4;
+
+    public static RsaKeyEncoding detect(byte[] der) {
+        if (der.length < 2 || der[0] != SEQUENCE_TAG) {
+            return UNKNOWN;
+        }
+
+        int firstLengthByte = der[1] & 0xFF;
+        int contentOffset = 2;
+        long contentLength = firstLengthByte;
+        if ((firstLengthByte & LONG_FORM_LENGTH_FLAG) != 0) {
+            int lengthBytes = firstLengthByte & ~LONG_FORM_LENGTH_FLAG;
+            if (lengthBytes == 0 || lengthBytes > MAX_LENGTH_BYTES || der.length < 2 + lengthBytes) {
+                return UNKNOWN;
+            }
+            contentLength = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                contentLength = (contentLength << Byte.SIZE) | (der[2 + i] & 0xFF);
+            }
+            contentOffset += lengthBytes;
+        }
+
+        if (contentLength == 0 || contentOffset + contentLength != der.length) {
+            return UNKNOWN;
+        }
+
+        switch (der[contentOffset]) {
+            case INTEGER_TAG:
+                return PKCS8;
+            case SEQUENCE_TAG:
+                return X509;
+            default:
+                return UNKNOWN;
+        }
+    }
+}
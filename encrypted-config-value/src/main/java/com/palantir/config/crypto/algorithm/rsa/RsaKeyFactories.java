@@ -0,0 +1,42 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Caches an RSA {@link KeyFactory} per thread so that parsing keys does not repeat the provider lookup performed by
+ * {@link KeyFactory#getInstance(String)}.
+ */
+final class RsaKeyFactories {
+    private static final ThreadLocal<KeyFactory> KEY_FACTORY = ThreadLocal.withInitial(() -> {
+        try {
+            return KeyFactory.getInstance(Algorithm.RSA.toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new SafeRuntimeException(e);
+        }
+    });
+
+    private RsaKeyFactories() {}
+
+    static KeyFactory get() {
+        return KEY_FACTORY.get();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter.HashAlgorithm;
+import com.palantir.config.crypto.util.CipherCache;
+import java.security.spec.MGF1ParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+
+/**
+ * Parameters and cipher cache shared by RSA-OAEP encryption and decryption. Parameter specs are precomputed for every
+ * combination of hash algorithms and shared, which lets {@link CipherCache} reuse ciphers that are already initialized
+ * for a key.
+ */
+final class RsaOaep {
+    static final String TRANSFORMATION = "RSA/ECB/OAEPPadding";
+    static final CipherCache CIPHERS = CipherCache.forTransformation(TRANSFORMATION);
+
+    private static final OAEPParameterSpec[][] PARAMETER_SPECS = parameterSpecs();
+
+    private RsaOaep() {}
+
+    static OAEPParameterSpec parameterSpec(HashAlgorithm oaepHashAlg, HashAlgorithm mdf1HashAlg) {
+        return PARAMETER_SPECS[oaepHashAlg.ordinal()][mdf1HashAlg.ordinal()];
+    }
+
+    private static OAEPParameterSpec[][] parameterSpecs() {
+        HashAlgorithm[] hashAlgorithms = HashAlgorithm.values();
+        OAEPParameterSpec[][] specs = new OAEPParameterSpec[hashAlgorithms.length][hashAlgorithms.length];
+        for (HashAlgorithm oaepHashAlg : hashAlgorithms) {
+            for (HashAlgorithm mdf1HashAlg : hashAlgorithms) {
+                specs[oaepHashAlg.ordinal()][mdf1HashAlg.ordinal()] = new OAEPParameterSpec(
+                        oaepHashAlg.toString(),
+                        "MGF1",
+                        new MGF1ParameterSpec(mdf1HashAlg.toString()),
+                        PSource.PSpecified.DEFAULT);
+            }
+        }
+        return specs;
+    }
+}
@@ -25,13 +25,12 @@ import com.palantir.config.crypto.algorithm.KeyType;
 import com.palantir.config.crypto.util.Suppliers;
 import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
-import java.security.spec.MGF1ParameterSpec;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.crypto.Cipher;
-import javax.crypto.spec.OAEPParameterSpec;
-import javax.crypto.spec.PSource;
 
 /**
- * Encrypts values using RSA-OAEP-MDF1. Uses SHA-256 as the hash function for both OAEP and MDF1.
+ * Encrypts values using RSA-OAEP-MDF1. Uses SHA-256 as the hash function for both OAEP and MDF1. Values that are large
+ * or numerous can be encrypted with an {@link #envelope()} encrypter instead.
  */
 @Immutable
 public enum RsaOaepEncrypter implements Encrypter {
@@ -57,25 +56,76 @@ public enum RsaOaepEncrypter implements Encrypter {
         }
     }
 
+    /**
+     * Returns an encrypter that encrypts values with AES-GCM under a random data key and stores the data key wrapped
+     * with RSA-OAEP ({@link RsaEncryptedValue.Mode#ENVELOPE}). The data key is reused across values encrypted for the
+     * same public key, so decrypting all of them costs a single RSA operation, and values are not limited by the RSA
+     * key size. Envelope values cannot be decrypted by versions of this library that predate the mode.
+     */
+    public static Encrypter envelope() {
+        return new EnvelopeEncrypter();
+    }
+
+    /**
+     * Returns an encrypter that records the id of the encryption key in each value, which lets a
+     * {@link com.palantir.config.crypto.KeyRing} select the decryption key without trying each key. Values that record
+     * a key id cannot be parsed by versions of this library that predate the field.
+     */
+    public static Encrypter withKeyId() {
+        return KeyIdEncrypter.INSTANCE;
+    }
+
     @Override
     public final EncryptedValue encrypt(KeyWithType kwt, final String plaintext) {
+        return encrypt(kwt, plaintext, false);
+    }
+
+    private static EncryptedValue encrypt(KeyWithType kwt, String plaintext, boolean recordKeyId) {
         KeyType.RSA_PUBLIC.checkKeyArgument(kwt, RsaPublicKey.class);
         final PublicKey publicKey = ((RsaPublicKey) kwt.getKey()).getPublicKey();
         return Suppliers.silently(() -> {
-            Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPPadding");
-            OAEPParameterSpec oaepParams = new OAEPParameterSpec(
-                    OAEP_HASH_ALG.toString(),
-                    "MGF1",
-                    new MGF1ParameterSpec(MDF1_HASH_ALG.toString()),
-                    PSource.PSpecified.DEFAULT);
-            cipher.init(Cipher.ENCRYPT_MODE, publicKey, oaepParams);
-            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = RsaOaep.CIPHERS.apply(
+                    Cipher.ENCRYPT_MODE,
+                    publicKey,
+                    RsaOaep.parameterSpec(OAEP_HASH_ALG, MDF1_HASH_ALG),
+                    cipher -> cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8)));
 
             return ImmutableRsaEncryptedValue.builder()
                     .ciphertext(encrypted)
                     .oaepHashAlg(OAEP_HASH_ALG)
                     .mdf1HashAlg(MDF1_HASH_ALG)
+                    .keyId(recordKeyId ? kwt.getKeyId() : null)
                     .build();
         });
     }
+
+    private enum KeyIdEncrypter implements Encrypter {
+        INSTANCE;
+
+        @Override
+        public EncryptedValue encrypt(KeyWithType kwt, String plaintext) {
+            return RsaOaepEncrypter.encrypt(kwt, plaintext, true);
+        }
+    }
+
+    // holds the data key that is currently being shared between values
+    @SuppressWarnings("Immutable")
+    private static final class EnvelopeEncrypter implements Encrypter {
+        private final AtomicReference<RsaEnvelope.DataKey> currentDataKey = new AtomicReference<>();
+
+        @Override
+        public EncryptedValue encrypt(KeyWithType kwt, String plaintext) {
+            KeyType.RSA_PUBLIC.checkKeyArgument(kwt, RsaPublicKey.class);
+            final PublicKey publicKey = ((RsaPublicKey) kwt.getKey()).getPublicKey();
+            return Suppliers.silently(() -> {
+                RsaEnvelope.DataKey dataKey = currentDataKey.get();
+                if (dataKey == null || !dataKey.tryUse(publicKey)) {
+                    dataKey = RsaEnvelope.newDataKey(publicKey);
+                    dataKey.tryUse(publicKey);
+                    currentDataKey.set(dataKey);
+                }
+                return RsaEnvelope.encrypt(dataKey, kwt.getKeyId(), plaintext.getBytes(StandardCharsets.UTF_8));
+            });
+        }
+    }
 }
@@ -20,13 +20,12 @@ import com.google.errorprone.annotations.Immutable;
 import com.palantir.config.crypto.ImmutableKeyWithType;
 import com.palantir.config.crypto.Key;
 import com.palantir.config.crypto.KeyWithType;
-import com.palantir.config.crypto.algorithm.Algorithm;
 import com.palantir.config.crypto.algorithm.KeyGenerator;
 import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.util.KeyIds;
 import com.palantir.logsafe.exceptions.SafeRuntimeException;
-import java.security.KeyFactory;
-import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.security.interfaces.RSAKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
 
@@ -46,6 +45,17 @@ public final class RsaPublicKey implements Key {
         return publicKey.getEncoded();
     }
 
+    /**
+     * Returns an identifier derived from the RSA modulus, which is shared by the public and private key of a pair.
+     */
+    @Override
+    public String keyId() {
+        if (publicKey instanceof RSAKey) {
+            return KeyIds.fromKeyMaterial(((RSAKey) publicKey).getModulus().toByteArray());
+        }
+        return Key.super.keyId();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj == null) {
@@ -73,9 +83,8 @@ public final class RsaPublicKey implements Key {
         public KeyWithType keyFromBytes(byte[] key) {
             PublicKey localPublicKey;
             try {
-                localPublicKey =
-                        KeyFactory.getInstance(Algorithm.RSA.toString()).generatePublic(new X509EncodedKeySpec(key));
-            } catch (InvalidKeySpecException | NoSuchAlgorithmException e) {
+                localPublicKey = RsaKeyFactories.get().generatePublic(new X509EncodedKeySpec(key));
+            } catch (InvalidKeySpecException e) {
                 throw new SafeRuntimeException(e);
             }
             return ImmutableKeyWithType.builder()
@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.util;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.Cipher;
+
+/**
+ * Helpers for AEAD ciphers (AES-GCM, ChaCha20-Poly1305) whose values store the authentication tag separately from the
+ * ciphertext.
+ */
+public final class Aead {
+    private Aead() {
+        /* do not instantiate */
+    }
+
+    /**
+     * Decrypts a ciphertext whose tag is stored separately using a cipher initialized for decryption. The ciphertext
+     * and tag are fed to the cipher directly rather than concatenated first, and the plaintext is written into a
+     * single preallocated buffer.
+     */
+    public static byte[] decrypt(Cipher cipher, byte[] ciphertext, byte[] tag) throws GeneralSecurityException {
+        // the plaintext is exactly as long as the ciphertext without its tag
+        byte[] plaintext = new byte[ciphertext.length];
+        int length = cipher.update(ciphertext, 0, ciphertext.length, plaintext, 0);
+        length += cipher.doFinal(tag, 0, tag.length, plaintext, length);
+        return length == plaintext.length ? plaintext : Arrays.copyOf(plaintext, length);
+    }
+
+    /**
+     * Like {@link #decrypt(Cipher, byte[], byte[])}, but writes the plaintext into the destination buffer and returns
+     * the number of bytes written.
+     */
+    public static int decryptInto(Cipher cipher, byte[] ciphertext, byte[] tag, ByteBuffer destination)
+            throws GeneralSecurityException {
+        int length = cipher.update(ByteBuffer.wrap(ciphertext), destination);
+        length += cipher.doFinal(ByteBuffer.wrap(tag), destination);
+        return length;
+    }
+
+    /**
+     * Returns the ciphertext of a combined ciphertext and tag, as produced by {@link Cipher#doFinal}.
+     */
+    public static byte[] ciphertext(byte[] encrypted, int tagSizeBytes) {
+        return Arrays.copyOfRange(encrypted, 0, encrypted.length - tagSizeBytes);
+    }
+
+    /**
+     * Returns the tag of a combined ciphertext and tag, as produced by {@link Cipher#doFinal}.
+     */
+    public static byte[] tag(byte[] encrypted, int tagSizeBytes) {
+        return Arrays.copyOfRange(encrypted, encrypted.length - tagSizeBytes, encrypted.length);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.util;
+
+/**
+ * Parameters and cipher cache shared by AES-GCM encryption and decryption, including the AES-GCM layer of RSA envelope
+ * and ECIES values. Internal to this library.
+ */
+public final class AesGcm {
+    public static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    public static final CipherCache CIPHERS = CipherCache.forTransformation(TRANSFORMATION);
+
+    private AesGcm() {
+        /* do not instantiate */
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Cipher;
+
+/**
+ * Caches {@link Cipher} instances per thread and key, so that steady-state encryption and decryption do not call
+ * {@link Cipher#getInstance(String)}, which walks the registered providers under synchronization and allocates a new
+ * cipher and key schedule on every call.
+ *
+ * A cached cipher is only re-initialized when it is requested with a different operation mode or parameter spec
+ * instance than it was last initialized with, so callers that pass a shared parameter spec (for example fixed OAEP
+ * parameters) reuse a fully initialized cipher, while callers that pass a fresh spec per operation (for example a new
+ * GCM IV) only pay for re-initialization with the new parameters. Each thread keeps ciphers for a bounded number of
+ * keys, evicting the least recently used.
+ *
+ * Keys are held weakly, so a key that is no longer referenced elsewhere is dropped along with its cipher. Some
+ * providers retain the key inside an initialized cipher, which keeps it reachable, so code that rotates keys calls
+ * {@link #invalidateAll()}; each thread discards its ciphers the next time it uses any cache.
+ */
+public final class CipherCache {
+    private static final int MAX_KEYS_PER_THREAD = 8;
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private final String transformation;
+    private final ThreadLocal<ThreadCiphers> threadCiphers = ThreadLocal.withInitial(ThreadCiphers::new);
+
+    private CipherCache(String transformation) {
+        this.transformation = transformation;
+    }
+
+    public static CipherCache forTransformation(String transformation) {
+        return new CipherCache(transformation);
+    }
+
+    /**
+     * Discards the ciphers cached by every instance, on every thread, so that they no longer reference retired keys.
+     */
+    public static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * Applies the provided operation to this thread's cipher for the provided key, initialized with the provided mode
+     * and parameters. The cipher must not escape the operation. If the operation throws, the cipher is
+     * re-initialized before its next use.
+     */
+    public <T> T apply(int opmode, Key key, AlgorithmParameterSpec params, CipherOperation<T> operation)
+            throws GeneralSecurityException {
+        CachedCipher cachedCipher = threadCiphers.get().forKey(key, transformation);
+        Cipher cipher = cachedCipher.initializedFor(opmode, key, params);
+        try {
+            return operation.apply(cipher);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            cachedCipher.reset();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface CipherOperation<T> {
+        T apply(Cipher cipher) throws GeneralSecurityException;
+    }
+
+    private static final class ThreadCiphers {
+        private final Map<KeyIdentity, CachedCipher> ciphers =
+                new LinkedHashMap<KeyIdentity, CachedCipher>(MAX_KEYS_PER_THREAD, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<KeyIdentity, CachedCipher> eldest) {
+                        return size() > MAX_KEYS_PER_THREAD;
+                    }
+                };
+        private final ReferenceQueue<Key> collectedKeys = new ReferenceQueue<>();
+        private long cachedGeneration = GENERATION.get();
+        private KeyIdentity lastKey;
+        private CachedCipher lastCipher;
+
+        CachedCipher forKey(Key key, String transformation) throws GeneralSecurityException {
+            long currentGeneration = GENERATION.get();
+            if (cachedGeneration != currentGeneration) {
+                ciphers.clear();
+                lastKey = null;
+                lastCipher = null;
+                cachedGeneration = currentGeneration;
+            }
+            // fast path for the common case of a single key in use
+            if (lastKey != null && lastKey.get() == key) {
+                return lastCipher;
+            }
+            expungeCollectedKeys();
+            KeyIdentity identity = new KeyIdentity(key, collectedKeys);
+            CachedCipher cachedCipher = ciphers.get(identity);
+            if (cachedCipher == null) {
+                cachedCipher = new CachedCipher(Cipher.getInstance(transformation));
+                ciphers.put(identity, cachedCipher);
+            }
+            lastKey = identity;
+            lastCipher = cachedCipher;
+            return cachedCipher;
+        }
+
+        private void expungeCollectedKeys() {
+            Reference<? extends Key> collected;
+            while ((collected = collectedKeys.poll()) != null) {
+                ciphers.remove(collected);
+            }
+        }
+    }
+
+    private static final class CachedCipher {
+        private final Cipher cipher;
+        private int opmode;
+        private AlgorithmParameterSpec params;
+
+        CachedCipher(Cipher cipher) {
+            this.cipher = cipher;
+        }
+
+        Cipher initializedFor(int newOpmode, Key key, AlgorithmParameterSpec newParams)
+                throws GeneralSecurityException {
+            if (params == null || opmode != newOpmode || params != newParams) {
+                reset();
+                cipher.init(newOpmode, key, newParams);
+                opmode = newOpmode;
+                params = newParams;
+            }
+            return cipher;
+        }
+
+        void reset() {
+            params = null;
+        }
+    }
+
+    private static final class KeyIdentity extends WeakReference<Key> {
+        private final int hashCode;
+
+        KeyIdentity(Key key, ReferenceQueue<Key> queue) {
+            super(key, queue);
+            this.hashCode = System.identityHashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            // a collected key only matches its own identity, which lets it be removed once it is enqueued
+            Key key = get();
+            return key != null && other instanceof KeyIdentity && ((KeyIdentity) other).get() == key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.util;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default executors for asynchronous decryption. Blocking work such as reading key files runs on {@link #io()}, and
+ * CPU-bound cipher work runs on {@link #cpu()}. Both are created on first use and never need to be shut down.
+ */
+public final class DecryptionExecutors {
+    private DecryptionExecutors() {
+        /* do not instantiate */
+    }
+
+    /**
+     * Returns an executor for blocking I/O that runs each task on a new virtual thread when running on Java 21 or
+     * later, and on a cached pool of daemon platform threads otherwise.
+     */
+    public static Executor io() {
+        return IoHolder.EXECUTOR;
+    }
+
+    /**
+     * Returns a bounded pool of daemon platform threads, one per available processor, for CPU-bound cipher work.
+     */
+    public static Executor cpu() {
+        return CpuHolder.EXECUTOR;
+    }
+
+    private static final class IoHolder {
+        private static final ExecutorService EXECUTOR = newIoExecutor();
+
+        private static ExecutorService newIoExecutor() {
+            MethodHandle factory;
+            try {
+                // looked up reflectively because this library targets Java versions without virtual threads
+                factory = MethodHandles.publicLookup()
+                        .findStatic(
+                                Executors.class,
+                                "newVirtualThreadPerTaskExecutor",
+                                MethodType.methodType(ExecutorService.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return Executors.newCachedThreadPool(daemonThreadFactory("encrypted-config-value-io-%d"));
+            }
+            try {
+                return (ExecutorService) factory.invokeExact();
+            } catch (Throwable t) {
+                Throwables.throwIfUnchecked(t);
+                throw new SafeRuntimeException(t);
+            }
+        }
+    }
+
+    private static final class CpuHolder {
+        private static final ExecutorService EXECUTOR = newCpuExecutor();
+
+        private static ExecutorService newCpuExecutor() {
+            int threads = Runtime.getRuntime().availableProcessors();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads,
+                    threads,
+                    60,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    daemonThreadFactory("encrypted-config-value-decrypt-%d"));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String nameFormat) {
+        return new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.util;
+
+import com.google.common.io.BaseEncoding;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Computes key identifiers: the first 8 bytes of the SHA-256 digest of the key material, encoded as lowercase hex.
+ * Key identifiers are not secret; they only allow a key to be selected without attempting decryption.
+ */
+public final class KeyIds {
+    private static final byte[] DOMAIN = "encrypted-config-value key id".getBytes(StandardCharsets.UTF_8);
+    private static final int KEY_ID_SIZE_BYTES = 8;
+
+    private KeyIds() {
+        /* do not instantiate */
+    }
+
+    public static String fromKeyMaterial(byte[] keyMaterial) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new SafeRuntimeException(e);
+        }
+        digest.update(DOMAIN);
+        byte[] hash = digest.digest(keyMaterial);
+        return BaseEncoding.base16().lowerCase().encode(Arrays.copyOf(hash, KEY_ID_SIZE_BYTES));
+    }
+}
@@ -87,6 +87,16 @@ public final class AlgorithmTest {
         encryptAndDecrypt(Algorithm.RSA, plaintext);
     }
 
+    @Property(tries = 1_000)
+    void chacha20(@ForAll @StringLength(max = 100_000) String plaintext) {
+        encryptAndDecrypt(Algorithm.CHACHA20, plaintext);
+    }
+
+    @Property(tries = 1_000)
+    void ecies(@ForAll @StringLength(max = 100_000) String plaintext) {
+        encryptAndDecrypt(Algorithm.ECIES, plaintext);
+    }
+
     private static void encryptAndDecrypt(Algorithm algorithm, String plaintext) {
         KeyPair keyPair = algorithm.newKeyPair();
 
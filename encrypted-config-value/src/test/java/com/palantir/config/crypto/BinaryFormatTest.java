@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.config.crypto.EncryptedValue.Format;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.aes.AesSivEncrypter;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class BinaryFormatTest {
+
+    @Test
+    public void roundTripsEveryAlgorithmAndMode() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            KeyPair keyPair = algorithm.newKeyPair();
+            assertRoundTrips(algorithm.newEncrypter().encrypt(keyPair.encryptionKey(), "value"), keyPair);
+        }
+        KeyPair aesKeyPair = Algorithm.AES.newKeyPair();
+        assertRoundTrips(AesSivEncrypter.INSTANCE.encrypt(aesKeyPair.encryptionKey(), "value"), aesKeyPair);
+        KeyPair rsaKeyPair = Algorithm.RSA.newKeyPair();
+        assertRoundTrips(RsaOaepEncrypter.envelope().encrypt(rsaKeyPair.encryptionKey(), "value"), rsaKeyPair);
+    }
+
+    @Test
+    public void rejectsTruncatedAndExtendedValues() {
+        KeyPair keyPair = Algorithm.AES.newKeyPair();
+        byte[] bytes = BinaryFormat.write(Algorithm.AES.newEncrypter().encrypt(keyPair.encryptionKey(), "value"));
+
+        assertThat(BinaryFormat.read(bytes)).isPresent();
+        assertThat(BinaryFormat.read(Arrays.copyOf(bytes, bytes.length - 1))).isEmpty();
+        assertThat(BinaryFormat.read(Arrays.copyOf(bytes, bytes.length + 1))).isEmpty();
+        bytes[3] = 0x7f;
+        assertThat(BinaryFormat.read(bytes)).isEmpty();
+    }
+
+    private static void assertRoundTrips(EncryptedValue value, KeyPair keyPair) {
+        String binary = value.toString(Format.BINARY);
+        EncryptedValue parsed = EncryptedValue.fromString(binary);
+
+        assertThat(parsed).isEqualTo(value);
+        assertThat(parsed.decrypt(keyPair.decryptionKey())).isEqualTo("value");
+        assertThat(binary.length()).isLessThan(value.toString(Format.JSON).length());
+    }
+}
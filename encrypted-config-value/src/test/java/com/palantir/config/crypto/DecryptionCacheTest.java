@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class DecryptionCacheTest {
+    private static final KeyPair KEY_PAIR = Algorithm.AES.newKeyPair();
+
+    private final DecryptionCache cache = DecryptionCache.create(1024, Duration.ofMinutes(1));
+
+    @Test
+    public void decryptsEachValueOnceAcrossConcurrentCallers() throws Exception {
+        EncryptedValue value = Algorithm.AES.newEncrypter().encrypt(KEY_PAIR.encryptionKey(), "value");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<String>> decryptions = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                decryptions.add(
+                        CompletableFuture.supplyAsync(() -> cache.decrypt(value, KEY_PAIR.decryptionKey()), executor));
+            }
+            for (CompletableFuture<String> decryption : decryptions) {
+                assertThat(decryption.get()).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // callers that wait for the in-flight decryption count as misses, but only one decryption happens
+        assertThat(cache.stats().loadCount()).isEqualTo(1);
+        assertThat(cache.stats().requestCount()).isEqualTo(16);
+    }
+
+    @Test
+    public void invalidatesByKeyAndDoesNotCacheFailures() {
+        EncryptedValue value = Algorithm.AES.newEncrypter().encrypt(KEY_PAIR.encryptionKey(), "value");
+        KeyWithType otherKey = Algorithm.AES.newKeyPair().decryptionKey();
+
+        assertThatThrownBy(() -> cache.decrypt(value, otherKey))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThatThrownBy(() -> cache.decrypt(value, otherKey))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThat(cache.decrypt(value, KEY_PAIR.decryptionKey())).isEqualTo("value");
+
+        cache.invalidateKey(otherKey.getKeyId());
+        assertThat(cache.decrypt(value, KEY_PAIR.decryptionKey())).isEqualTo("value");
+        cache.invalidateKey(KEY_PAIR.decryptionKey().getKeyId());
+        assertThat(cache.decrypt(value, KEY_PAIR.decryptionKey())).isEqualTo("value");
+
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(4);
+        assertThat(cache.stats().loadExceptionCount()).isEqualTo(2);
+    }
+}
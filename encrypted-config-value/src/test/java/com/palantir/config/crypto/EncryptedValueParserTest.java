@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+public class EncryptedValueParserTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void parsesTheSameValuesAsTheObjectMapper() throws Exception {
+        for (Algorithm algorithm : Algorithm.values()) {
+            KeyPair keyPair = algorithm.newKeyPair();
+            assertParsedLikeObjectMapper(algorithm.newEncrypter().encrypt(keyPair.encryptionKey(), "value"));
+        }
+        KeyPair rsaKeyPair = Algorithm.RSA.newKeyPair();
+        assertParsedLikeObjectMapper(RsaOaepEncrypter.envelope().encrypt(rsaKeyPair.encryptionKey(), "value"));
+    }
+
+    @Test
+    public void defersUnrecognizedJsonToTheObjectMapper() {
+        assertThat(EncryptedValueParser.parse(json("{\"type\":\"AES\",\"unknown\":\"x\"}")))
+                .isEmpty();
+        assertThat(EncryptedValueParser.parse(json("{\"type\":\"UNKNOWN\"}"))).isEmpty();
+        assertThat(EncryptedValueParser.parse(json("{\"type\":\"AES\",\"iv\":1}")))
+                .isEmpty();
+        assertThat(EncryptedValueParser.parse(json("{\"type\":\"AES\""))).isEmpty();
+
+        assertThat(EncryptedValue.fromString("enc:" + Base64.getEncoder().encodeToString(json("{\"type\":1}"))))
+                .isInstanceOf(LegacyEncryptedValue.class);
+    }
+
+    @Test
+    public void defersFieldsThatBelongToOtherTypes() {
+        String aes = "{\"type\":\"AES\",\"iv\":\"AAAAAAAAAAAAAAAA\",\"ciphertext\":\"AAAA\","
+                + "\"tag\":\"AAAAAAAAAAAAAAAAAAAAAA==\"";
+        assertThat(EncryptedValueParser.parse(json(aes + "}"))).isPresent();
+
+        assertThat(EncryptedValueParser.parse(json(aes + ",\"wrapped-key\":\"AAAA\"}")))
+                .isEmpty();
+        assertThat(EncryptedValueParser.parse(json(aes + ",\"nonce\":\"AAAA\"}")))
+                .isEmpty();
+        assertThat(EncryptedValueParser.parse(json(aes + ",\"ephemeral-public-key\":null}")))
+                .isEmpty();
+        assertThat(EncryptedValueParser.parse(json("{\"type\":\"CHACHA20\",\"iv\":\"AAAA\"}")))
+                .isEmpty();
+    }
+
+    @Test
+    public void parsesJsonInAnyEncodingTheObjectMapperAccepts() throws Exception {
+        EncryptedValue value =
+                Algorithm.AES.newEncrypter().encrypt(Algorithm.AES.newKeyPair().encryptionKey(), "value");
+        String json = MAPPER.writeValueAsString(value);
+
+        byte[] utf8WithBom = ("\uFEFF" + json).getBytes(StandardCharsets.UTF_8);
+        byte[] utf16 = json.getBytes(StandardCharsets.UTF_16);
+        for (byte[] bytes : new byte[][] {utf8WithBom, utf16}) {
+            assertThat(EncryptedValue.fromString("enc:" + Base64.getEncoder().encodeToString(bytes)))
+                    .isEqualTo(value);
+        }
+    }
+
+    private static void assertParsedLikeObjectMapper(EncryptedValue value) throws Exception {
+        byte[] json = MAPPER.writeValueAsBytes(value);
+        assertThat(EncryptedValueParser.parse(json)).hasValue(MAPPER.readValue(json, EncryptedValue.class));
+        assertThat(EncryptedValue.fromString(value.toString())).isEqualTo(value);
+    }
+
+    private static byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -19,11 +19,15 @@ package com.palantir.config.crypto;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.primitives.Bytes;
 import com.palantir.config.crypto.algorithm.Algorithm;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 public final class EncryptedValueTest {
@@ -89,12 +93,83 @@ public final class EncryptedValueTest {
         assertThat(encryptedValue.decrypt(rsaPrivKey)).isEqualTo(plaintext);
     }
 
+    @Test
+    public void weCanDecryptToBytesCharsAndBuffers() {
+        String legacy = "enc:QjR4AHIYoIzvjEHf53XETM3QYnCl1mgFYC51Q7x4ebwM+h3PHVqSt/"
+                + "1un/+KvpJ2mZfMH0tifu+htRVxEPyXmt88lyKB83NpesNJEoLFLL+wBWCkppaLRuc/1w==";
+        EncryptedValue legacyValue = EncryptedValue.fromString(legacy);
+        EncryptedValue aesValue = Algorithm.AES.newEncrypter().encrypt(aesKey, plaintext);
+        EncryptedValue rsaValue = Algorithm.RSA.newEncrypter().encrypt(rsaPubKey, plaintext);
+        byte[] expected = plaintext.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(legacyValue.decryptToBytes(aesKey)).isEqualTo(expected);
+        assertThat(aesValue.decryptToChars(aesKey)).isEqualTo(plaintext.toCharArray());
+        assertThat(rsaValue.decryptToBytes(rsaPrivKey)).isEqualTo(expected);
+
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(128), ByteBuffer.allocateDirect(128))) {
+            buffer.put((byte) 1);
+            assertThat(aesValue.decryptInto(aesKey, buffer)).isEqualTo(expected.length);
+            assertThat(rsaValue.decryptInto(rsaPrivKey, buffer)).isEqualTo(expected.length);
+            buffer.flip();
+            byte[] written = new byte[buffer.remaining()];
+            buffer.get(written);
+            assertThat(written).isEqualTo(Bytes.concat(new byte[] {1}, expected, expected));
+        }
+    }
+
+    @Test
+    public void weCannotDecryptIntoSmallBuffers() {
+        EncryptedValue aesValue = Algorithm.AES.newEncrypter().encrypt(aesKey, plaintext);
+        EncryptedValue rsaValue = Algorithm.RSA.newEncrypter().encrypt(rsaPubKey, plaintext);
+
+        assertThatThrownBy(() -> aesValue.decryptInto(aesKey, ByteBuffer.allocate(8)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> rsaValue.decryptInto(rsaPrivKey, ByteBuffer.allocate(8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void valuesThatOnlyImplementDecryptSupportTheOtherDecryptionMethods() {
+        EncryptedValue value = new EncryptedValue() {
+            @Override
+            public <T> T accept(EncryptedValueVisitor<T> visitor) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String decrypt(KeyWithType kwa) {
+                return plaintext;
+            }
+        };
+        byte[] expected = plaintext.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+
+        assertThat(value.decryptToBytes(aesKey)).isEqualTo(expected);
+        assertThat(value.decryptToChars(aesKey)).isEqualTo(plaintext.toCharArray());
+        assertThat(value.decryptInto(aesKey, buffer)).isEqualTo(expected.length);
+        try (SecretBuffer secret = value.decryptToSecretBuffer(aesKey)) {
+            assertThat(secret.toByteArray()).isEqualTo(expected);
+        }
+    }
+
     @Test
     public void weCanDecryptValueEncryptedUsingExistingRsaKey() {
         EncryptedValue encryptedValue = Algorithm.RSA.newEncrypter().encrypt(rsaPubKey, plaintext);
         assertThat(encryptedValue.decrypt(rsaPrivKey)).isEqualTo(plaintext);
     }
 
+    @Test
+    public void weInternParsedValuesAndMemoizeTheirStrings() {
+        EncryptedValue value = Algorithm.AES.newEncrypter().encrypt(aesKey, plaintext);
+        String serialized = value.toString();
+
+        assertThat(value.toString()).isSameAs(serialized);
+        assertThat(EncryptedValue.fromString(serialized))
+                .isEqualTo(value)
+                .isSameAs(EncryptedValue.fromString(serialized));
+        assertThat(value.toString(EncryptedValue.Format.BINARY)).isSameAs(value.toString(EncryptedValue.Format.BINARY));
+    }
+
     @Test
     public void weFailToConstructWithInvalidPrefix() {
         assertThatThrownBy(() -> {
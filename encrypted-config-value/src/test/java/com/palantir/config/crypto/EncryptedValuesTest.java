@@ -0,0 +1,74 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class EncryptedValuesTest {
+    private static final KeyPair RSA_KEY_PAIR = Algorithm.RSA.newKeyPair();
+
+    @Test
+    public void testDecryptsAllValuesInOrder() {
+        EncryptedValue first = Algorithm.RSA.newEncrypter().encrypt(RSA_KEY_PAIR.encryptionKey(), "first");
+        EncryptedValue second = RsaOaepEncrypter.envelope().encrypt(RSA_KEY_PAIR.encryptionKey(), "second");
+        EncryptedValue third = Algorithm.RSA.newEncrypter().encrypt(RSA_KEY_PAIR.encryptionKey(), "third");
+
+        List<DecryptionResult> results =
+                EncryptedValues.decryptAll(List.of(first, second, third), RSA_KEY_PAIR.decryptionKey());
+
+        assertThat(results).extracting(DecryptionResult::getOrThrow).containsExactly("first", "second", "third");
+        assertThat(results).extracting(DecryptionResult::encryptedValue).containsExactly(first, second, third);
+    }
+
+    @Test
+    public void testReportsFailuresPerValue() {
+        KeyPair aesKeyPair = Algorithm.AES.newKeyPair();
+        EncryptedValue rsaValue = Algorithm.RSA.newEncrypter().encrypt(RSA_KEY_PAIR.encryptionKey(), "rsa");
+        EncryptedValue aesValue = Algorithm.AES.newEncrypter().encrypt(aesKeyPair.encryptionKey(), "aes");
+        EncryptedValue otherAesValue =
+                Algorithm.AES.newEncrypter().encrypt(Algorithm.AES.newKeyPair().encryptionKey(), "other");
+
+        List<DecryptionResult> results =
+                EncryptedValues.decryptAll(List.of(rsaValue, aesValue, otherAesValue), aesKeyPair.decryptionKey());
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(1).getOrThrow()).isEqualTo("aes");
+        assertThat(results.get(2).error()).isPresent();
+        assertThatThrownBy(results.get(2)::getOrThrow)
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThat(results.get(1).toString()).doesNotContain("plaintext");
+    }
+
+    @Test
+    public void testChecksKeyOncePerGroup() {
+        EncryptedValue first = Algorithm.RSA.newEncrypter().encrypt(RSA_KEY_PAIR.encryptionKey(), "first");
+        EncryptedValue second = Algorithm.RSA.newEncrypter().encrypt(RSA_KEY_PAIR.encryptionKey(), "second");
+
+        List<DecryptionResult> results = EncryptedValues.decryptAll(
+                List.of(first, second), Algorithm.AES.newKeyPair().decryptionKey());
+
+        assertThat(results.get(0).error()).containsInstanceOf(IllegalArgumentException.class);
+        assertThat(results.get(1).error()).containsInstanceOf(IllegalArgumentException.class);
+        assertThat(results.get(0).error().get()).isSameAs(results.get(1).error().get());
+    }
+}
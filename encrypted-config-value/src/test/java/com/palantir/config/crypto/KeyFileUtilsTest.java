@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class KeyFileUtilsTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCachedKeyPairIsReusedWhileFilesAreUnchanged() throws IOException {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyFileUtils.keyPairToFile(Algorithm.RSA.newKeyPair(), keyPath);
+
+        KeyPair first = KeyFileUtils.cachedKeyPairFromPath(keyPath);
+        KeyPair second = KeyFileUtils.cachedKeyPairFromPath(keyPath);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).isEqualTo(KeyFileUtils.keyPairFromPath(keyPath));
+    }
+
+    @Test
+    public void testCachedKeyPairIsReloadedWhenFileIsReplaced() throws IOException {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyPair originalKeyPair = Algorithm.AES.newKeyPair();
+        KeyFileUtils.keyPairToFile(originalKeyPair, keyPath);
+        Files.setLastModifiedTime(keyPath, FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+        assertThat(KeyFileUtils.cachedKeyPairFromPath(keyPath)).isEqualTo(originalKeyPair);
+
+        Files.delete(keyPath);
+        KeyPair newKeyPair = Algorithm.AES.newKeyPair();
+        KeyFileUtils.keyPairToFile(newKeyPair, keyPath);
+        Files.setLastModifiedTime(keyPath, FileTime.from(Instant.parse("2021-01-01T00:00:00Z")));
+
+        assertThat(KeyFileUtils.cachedKeyPairFromPath(keyPath)).isEqualTo(newKeyPair);
+    }
+
+    @Test
+    public void testCachedKeyPairIsReloadedWhenPrivateKeyAppears() throws IOException {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyPair keyPair = Algorithm.RSA.newKeyPair();
+        KeyFileUtils.keyWithTypeToFile(keyPair.encryptionKey(), keyPath);
+        assertThat(KeyFileUtils.cachedKeyPairFromPath(keyPath)).isEqualTo(KeyPair.symmetric(keyPair.encryptionKey()));
+
+        KeyFileUtils.keyWithTypeToFile(keyPair.decryptionKey(), tempDir.resolve("test.key.private"));
+
+        assertThat(KeyFileUtils.cachedKeyPairFromPath(keyPath)).isEqualTo(keyPair);
+    }
+
+    @Test
+    public void testLoadsKeyPairAndDecryptsAsynchronously() throws IOException {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyPair keyPair = Algorithm.AES.newKeyPair();
+        KeyFileUtils.keyPairToFile(keyPair, keyPath);
+        EncryptedValue value = Algorithm.AES.newEncrypter().encrypt(keyPair.encryptionKey(), "value");
+
+        String plaintext = KeyFileUtils.cachedKeyPairFromPathAsync(keyPath)
+                .thenCompose(loaded -> value.decryptAsync(loaded.decryptionKey()))
+                .join();
+
+        assertThat(plaintext).isEqualTo("value");
+        assertThat(KeyFileUtils.cachedKeyPairFromPathAsync(tempDir.resolve("missing.key")))
+                .failsWithin(Duration.ofSeconds(10))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(NoSuchFileException.class);
+    }
+}
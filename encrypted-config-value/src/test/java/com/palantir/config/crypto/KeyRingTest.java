@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.aes.AesGcmEncrypter;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+public final class KeyRingTest {
+    private static final String PLAINTEXT = "some secret";
+
+    private final KeyPair oldAesKeyPair = Algorithm.AES.newKeyPair();
+    private final KeyPair newAesKeyPair = Algorithm.AES.newKeyPair();
+    private final KeyPair rsaKeyPair = Algorithm.RSA.newKeyPair();
+    private final KeyRing keyRing =
+            KeyRing.of(oldAesKeyPair.decryptionKey(), rsaKeyPair.decryptionKey(), newAesKeyPair.decryptionKey());
+
+    @Test
+    public void testAsymmetricKeysShareKeyId() {
+        assertThat(rsaKeyPair.encryptionKey().getKeyId())
+                .isEqualTo(rsaKeyPair.decryptionKey().getKeyId())
+                .isNotEqualTo(oldAesKeyPair.encryptionKey().getKeyId());
+    }
+
+    @Test
+    public void testEncryptedValuesRecordKeyIdOnlyWhenRequested() {
+        EncryptedValue value = AesGcmEncrypter.withKeyId().encrypt(newAesKeyPair.encryptionKey(), PLAINTEXT);
+        EncryptedValue valueWithoutKeyId =
+                Algorithm.AES.newEncrypter().encrypt(newAesKeyPair.encryptionKey(), PLAINTEXT);
+
+        assertThat(((AesEncryptedValue) EncryptedValue.fromString(value.toString())).getKeyId())
+                .isEqualTo(newAesKeyPair.encryptionKey().getKeyId());
+        assertThat(keyRing.keyFor(value)).contains(newAesKeyPair.decryptionKey());
+        assertThat(((AesEncryptedValue) valueWithoutKeyId).getKeyId()).isNull();
+        assertThat(new String(
+                        Base64.getDecoder().decode(valueWithoutKeyId.toString().substring("enc:".length())),
+                        StandardCharsets.UTF_8))
+                .doesNotContain("key-id");
+        assertThat(keyRing.keyFor(valueWithoutKeyId)).isEmpty();
+    }
+
+    @Test
+    public void testDecryptsUsingIdentifiedKey() {
+        for (KeyPair keyPair : new KeyPair[] {oldAesKeyPair, newAesKeyPair}) {
+            EncryptedValue value = AesGcmEncrypter.withKeyId().encrypt(keyPair.encryptionKey(), PLAINTEXT);
+            assertThat(keyRing.keyFor(value)).contains(keyPair.decryptionKey());
+            assertThat(keyRing.decrypt(value)).isEqualTo(PLAINTEXT);
+        }
+        EncryptedValue rsaValue = RsaOaepEncrypter.withKeyId().encrypt(rsaKeyPair.encryptionKey(), PLAINTEXT);
+        assertThat(keyRing.keyFor(rsaValue)).contains(rsaKeyPair.decryptionKey());
+        assertThat(keyRing.decrypt(rsaValue)).isEqualTo(PLAINTEXT);
+    }
+
+    @Test
+    public void testDecryptsValuesWithoutKeyIdByTrial() {
+        EncryptedValue value = Algorithm.AES.newEncrypter().encrypt(newAesKeyPair.encryptionKey(), PLAINTEXT);
+
+        assertThat(keyRing.keyFor(value)).isEmpty();
+        assertThat(keyRing.decrypt(value)).isEqualTo(PLAINTEXT);
+    }
+
+    @Test
+    public void testFailsForUnknownKeyId() {
+        EncryptedValue value =
+                AesGcmEncrypter.withKeyId().encrypt(Algorithm.AES.newKeyPair().encryptionKey(), PLAINTEXT);
+
+        assertThat(keyRing.keyFor(value)).isEmpty();
+        assertThatThrownBy(() -> keyRing.decrypt(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
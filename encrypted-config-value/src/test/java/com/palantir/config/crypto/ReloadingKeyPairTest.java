@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class ReloadingKeyPairTest {
+    private static final Duration DEBOUNCE = Duration.ofMillis(50);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testReloadsRewrittenKeyFile() throws Exception {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyPair originalKeyPair = Algorithm.AES.newKeyPair();
+        KeyFileUtils.keyPairToFile(originalKeyPair, keyPath);
+
+        try (ReloadingKeyPair reloadingKeyPair = ReloadingKeyPair.watch(keyPath, DEBOUNCE)) {
+            assertThat(reloadingKeyPair.get()).isEqualTo(originalKeyPair);
+            Instant initialLoad = reloadingKeyPair.lastSuccessfulLoad();
+
+            KeyPair newKeyPair = Algorithm.AES.newKeyPair();
+            Path staged = tempDir.resolve("staged.key");
+            KeyFileUtils.keyPairToFile(newKeyPair, staged);
+            Files.move(staged, keyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            awaitTrue(() -> newKeyPair.equals(reloadingKeyPair.get()));
+            assertThat(reloadingKeyPair.successfulReloads()).isPositive();
+            assertThat(reloadingKeyPair.lastSuccessfulLoad()).isAfterOrEqualTo(initialLoad);
+        }
+    }
+
+    @Test
+    public void testKeepsPreviousKeyPairWhenReloadFails() throws Exception {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyPair originalKeyPair = Algorithm.AES.newKeyPair();
+        KeyFileUtils.keyPairToFile(originalKeyPair, keyPath);
+
+        try (ReloadingKeyPair reloadingKeyPair = ReloadingKeyPair.watch(keyPath, DEBOUNCE)) {
+            Files.write(keyPath, "not a key".getBytes(StandardCharsets.UTF_8));
+
+            awaitTrue(() -> reloadingKeyPair.failedReloads() > 0);
+            assertThat(reloadingKeyPair.get()).isEqualTo(originalKeyPair);
+        }
+    }
+
+    @Test
+    public void testIgnoresChangesToOtherFiles() throws Exception {
+        Path keyPath = tempDir.resolve("test.key");
+        KeyPair originalKeyPair = Algorithm.AES.newKeyPair();
+        KeyFileUtils.keyPairToFile(originalKeyPair, keyPath);
+
+        try (ReloadingKeyPair reloadingKeyPair = ReloadingKeyPair.watch(keyPath, DEBOUNCE)) {
+            Files.write(tempDir.resolve("unrelated"), "not a key".getBytes(StandardCharsets.UTF_8));
+            Thread.sleep(DEBOUNCE.multipliedBy(10).toMillis());
+
+            assertThat(reloadingKeyPair.successfulReloads()).isZero();
+            assertThat(reloadingKeyPair.failedReloads()).isZero();
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition was not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
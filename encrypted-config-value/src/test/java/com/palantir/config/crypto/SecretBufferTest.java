@@ -0,0 +1,66 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class SecretBufferTest {
+    private static final String PLAINTEXT = "s\u00e9cret";
+
+    @Test
+    public void testDecryptsEachAlgorithmIntoSecretBuffer() {
+        for (Algorithm algorithm : Algorithm.values()) {
+            KeyPair keyPair = algorithm.newKeyPair();
+            EncryptedValue value = algorithm.newEncrypter().encrypt(keyPair.encryptionKey(), PLAINTEXT);
+            try (SecretBuffer buffer = value.decryptToSecretBuffer(keyPair.decryptionKey())) {
+                assertThat(buffer.size()).isEqualTo(PLAINTEXT.getBytes(StandardCharsets.UTF_8).length);
+                assertThat(buffer.toChars()).isEqualTo(PLAINTEXT.toCharArray());
+                assertThat(buffer.asReadOnlyByteBuffer().isDirect()).isTrue();
+            }
+        }
+
+        KeyPair rsaKeyPair = Algorithm.RSA.newKeyPair();
+        EncryptedValue envelope = RsaOaepEncrypter.envelope().encrypt(rsaKeyPair.encryptionKey(), PLAINTEXT);
+        try (SecretBuffer buffer = envelope.decryptToSecretBuffer(rsaKeyPair.decryptionKey())) {
+            assertThat(buffer.toByteArray()).isEqualTo(PLAINTEXT.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testCloseZeroesPlaintext() {
+        KeyPair keyPair = Algorithm.AES.newKeyPair();
+        EncryptedValue value = Algorithm.AES.newEncrypter().encrypt(keyPair.encryptionKey(), PLAINTEXT);
+        SecretBuffer buffer = value.decryptToSecretBuffer(keyPair.decryptionKey());
+        ByteBuffer view = buffer.asReadOnlyByteBuffer();
+
+        buffer.close();
+
+        assertThat(buffer.isClosed()).isTrue();
+        while (view.hasRemaining()) {
+            assertThat(view.get()).isZero();
+        }
+        assertThatThrownBy(buffer::toByteArray).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer).hasToString("SecretBuffer{closed}");
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Strings;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import org.junit.jupiter.api.Test;
+
+public class AesGcmTest {
+    private static final KeyPair KEY_PAIR = Algorithm.AES.newKeyPair();
+
+    @Test
+    public void testDecryptsLargeValuesWithDetachedTag() {
+        String plaintext = Strings.repeat("0123456789abcdef", 1 << 12);
+        AesEncryptedValue value =
+                (AesEncryptedValue) AesGcmEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), plaintext);
+
+        assertThat(value.decrypt(KEY_PAIR.decryptionKey())).isEqualTo(plaintext);
+    }
+
+    @Test
+    public void testRejectsModifiedTag() {
+        AesEncryptedValue value =
+                (AesEncryptedValue) AesGcmEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+        byte[] tag = value.getTag();
+        tag[0] ^= 1;
+        AesEncryptedValue modified = ImmutableAesEncryptedValue.copyOf(value).withTag(tag);
+
+        assertThatThrownBy(() -> modified.decrypt(KEY_PAIR.decryptionKey()))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThat(value.decrypt(KEY_PAIR.decryptionKey())).isEqualTo("value");
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.io.BaseEncoding;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+public class AesSivEncrypterTest {
+    private static final BaseEncoding HEX = BaseEncoding.base16().lowerCase();
+    private static final KeyPair KEY_PAIR = Algorithm.AES.newKeyPair();
+
+    @Test
+    public void testMatchesRfc5297() throws Exception {
+        // RFC 5297 appendix A.1
+        SecretKey key = new SecretKeySpec(
+                HEX.decode("fffefdfcfbfaf9f8f7f6f5f4f3f2f1f0f0f1f2f3f4f5f6f7f8f9fafbfcfdfeff"), "AES");
+        byte[] associatedData = HEX.decode("101112131415161718191a1b1c1d1e1f2021222324252627");
+        byte[] plaintext = HEX.decode("112233445566778899aabbccddee");
+
+        byte[] siv = new byte[AesSiv.SIV_SIZE_BYTES];
+        byte[] ciphertext = AesSiv.encrypt(key, plaintext, siv, associatedData);
+
+        assertThat(HEX.encode(siv)).isEqualTo("85632d07c6e8f37f950acd320a2ecc93");
+        assertThat(HEX.encode(ciphertext)).isEqualTo("40c02b9690c4dc04daef7f6afe5c");
+        assertThat(AesSiv.decrypt(key, siv, ciphertext, associatedData)).isEqualTo(plaintext);
+    }
+
+    @Test
+    public void testEqualPlaintextsProduceEqualValues() {
+        EncryptedValue value = AesSivEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+
+        assertThat(AesSivEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value"))
+                .hasToString(value.toString())
+                .isEqualTo(value);
+        assertThat(AesSivEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "other"))
+                .isNotEqualTo(value);
+        assertThat(((AesEncryptedValue) value).getMode()).isEqualTo(AesEncryptedValue.Mode.SIV);
+        assertThat(EncryptedValue.fromString(value.toString()).decrypt(KEY_PAIR.decryptionKey()))
+                .isEqualTo("value");
+    }
+
+    @Test
+    public void testRejectsModifiedCiphertext() {
+        AesEncryptedValue value =
+                (AesEncryptedValue) AesSivEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+        byte[] ciphertext = value.getCiphertext();
+        ciphertext[0] ^= 1;
+        AesEncryptedValue modified = ImmutableAesEncryptedValue.copyOf(value).withCiphertext(ciphertext);
+
+        assertThatThrownBy(() -> modified.decrypt(KEY_PAIR.decryptionKey()))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThatThrownBy(() -> ImmutableAesEncryptedValue.copyOf(value).withTag(new byte[16]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.aes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.KeyRing;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.Encrypter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class IvSourcesTest {
+    @Test
+    public void testCounterIvsShareFixedFieldAndNeverRepeat() {
+        IvSource ivSource = IvSources.counter(0x01020304);
+        Set<String> seen = new HashSet<>();
+        byte[] first = new byte[12];
+        ivSource.nextIv(first);
+        seen.add(Arrays.toString(first));
+
+        for (int i = 1; i < 1000; i++) {
+            byte[] iv = new byte[12];
+            ivSource.nextIv(iv);
+            assertThat(Arrays.copyOf(iv, 4)).containsExactly(1, 2, 3, 4);
+            assertThat(iv[11]).isEqualTo((byte) i);
+            assertThat(seen.add(Arrays.toString(iv))).isTrue();
+        }
+    }
+
+    @Test
+    public void testCounterRejectsOtherIvSizes() {
+        assertThatThrownBy(() -> IvSources.counter(1).nextIv(new byte[16]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testEncryptsWithCounterIvs() {
+        KeyPair keyPair = Algorithm.AES.newKeyPair();
+        Encrypter encrypter = AesGcmEncrypter.withIvSource(IvSources.counter(1));
+
+        EncryptedValue first = encrypter.encrypt(keyPair.encryptionKey(), "plaintext");
+        EncryptedValue second = encrypter.encrypt(keyPair.encryptionKey(), "plaintext");
+
+        assertThat(((AesEncryptedValue) first).getIv()).isNotEqualTo(((AesEncryptedValue) second).getIv());
+        assertThat(first.decrypt(keyPair.decryptionKey())).isEqualTo("plaintext");
+        assertThat(second.decrypt(keyPair.decryptionKey())).isEqualTo("plaintext");
+    }
+
+    @Test
+    public void testCombinesCounterIvsWithKeyId() {
+        KeyPair keyPair = Algorithm.AES.newKeyPair();
+        Encrypter encrypter = AesGcmEncrypter.withIvSource(IvSources.counter(1)).withKeyId();
+
+        AesEncryptedValue first = (AesEncryptedValue) encrypter.encrypt(keyPair.encryptionKey(), "plaintext");
+        AesEncryptedValue second = (AesEncryptedValue) encrypter.encrypt(keyPair.encryptionKey(), "plaintext");
+
+        assertThat(first.getIv()).isNotEqualTo(second.getIv());
+        assertThat(first.getKeyId()).isEqualTo(keyPair.encryptionKey().getKeyId());
+        assertThat(KeyRing.of(keyPair.decryptionKey()).keyFor(second)).contains(keyPair.decryptionKey());
+        assertThat(second.decrypt(keyPair.decryptionKey())).isEqualTo("plaintext");
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.chacha20;
+
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.Encrypter;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares ChaCha20-Poly1305 against the default AES-GCM encrypter for config-sized values. Run the main method from
+ * the test classpath; it prints the average time per operation after a warmup period.
+ */
+public final class ChaCha20Poly1305Benchmark {
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(5);
+    private static final List<Integer> PLAINTEXT_SIZES = List.of(32, 1024);
+
+    // consumed results, so that the JIT cannot eliminate the measured operations
+    private static int sink;
+
+    private ChaCha20Poly1305Benchmark() {}
+
+    public static void main(String[] _args) {
+        for (Algorithm algorithm : List.of(Algorithm.AES, Algorithm.CHACHA20)) {
+            for (int plaintextSize : PLAINTEXT_SIZES) {
+                KeyPair keyPair = algorithm.newKeyPair();
+                Encrypter encrypter = algorithm.newEncrypter();
+                String plaintext = "x".repeat(plaintextSize);
+                EncryptedValue encryptedValue = encrypter.encrypt(keyPair.encryptionKey(), plaintext);
+
+                report(
+                        algorithm,
+                        plaintextSize,
+                        "encrypt",
+                        () -> encrypter.encrypt(keyPair.encryptionKey(), plaintext));
+                report(
+                        algorithm,
+                        plaintextSize,
+                        "decrypt",
+                        () -> encryptedValue.decryptToBytes(keyPair.decryptionKey()));
+            }
+        }
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void report(Algorithm algorithm, int plaintextSize, String operation, Supplier<?> supplier) {
+        run(supplier, WARMUP);
+        double nanosPerOperation = run(supplier, MEASUREMENT);
+        System.out.printf("%-8s %5d bytes %-8s %10.1f ns/op%n", algorithm, plaintextSize, operation, nanosPerOperation);
+    }
+
+    private static double run(Supplier<?> supplier, Duration duration) {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long operations = 0;
+        long now;
+        do {
+            sink += System.identityHashCode(supplier.get());
+            operations++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return (double) (now - start) / operations;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.chacha20;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.EncryptedValueVisitor;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.LegacyEncryptedValue;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+public class ChaCha20Poly1305EncrypterTest {
+    private static final KeyPair KEY_PAIR = Algorithm.CHACHA20.newKeyPair();
+
+    @Test
+    public void testKeyAndValueRoundTripThroughStrings() {
+        KeyWithType key = KeyWithType.fromString(KEY_PAIR.encryptionKey().toString());
+        assertThat(key.getType()).isEqualTo(KeyType.CHACHA20);
+        assertThat(key).isEqualTo(KEY_PAIR.encryptionKey());
+
+        EncryptedValue value = ChaCha20Poly1305Encrypter.INSTANCE.encrypt(key, "value");
+        EncryptedValue parsed = EncryptedValue.fromString(value.toString());
+
+        assertThat(parsed).isInstanceOf(ChaCha20EncryptedValue.class).isEqualTo(value);
+        assertThat(((ChaCha20EncryptedValue) parsed).getKeyId()).isEqualTo(key.getKeyId());
+        assertThat(parsed.decrypt(KEY_PAIR.decryptionKey())).isEqualTo("value");
+    }
+
+    @Test
+    public void testRejectsModifiedTagAndOtherKeyTypes() {
+        ChaCha20EncryptedValue value =
+                (ChaCha20EncryptedValue) ChaCha20Poly1305Encrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+        byte[] tag = value.getTag();
+        tag[0] ^= 1;
+        ChaCha20EncryptedValue modified =
+                ImmutableChaCha20EncryptedValue.copyOf(value).withTag(tag);
+
+        assertThatThrownBy(() -> modified.decrypt(KEY_PAIR.decryptionKey()))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThatThrownBy(() -> value.decrypt(Algorithm.AES.newKeyPair().decryptionKey()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testVisitorsWithoutChaCha20SupportRejectTheValue() {
+        EncryptedValue value = ChaCha20Poly1305Encrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+        EncryptedValueVisitor<String> visitor = new EncryptedValueVisitor<>() {
+            @Override
+            public String visit(LegacyEncryptedValue _legacyEncryptedValue) {
+                return "legacy";
+            }
+
+            @Override
+            public String visit(AesEncryptedValue _aesEncryptedValue) {
+                return "aes";
+            }
+
+            @Override
+            public String visit(RsaEncryptedValue _rsaEncryptedValue) {
+                return "rsa";
+            }
+        };
+
+        assertThatThrownBy(() -> value.accept(visitor))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("ChaCha20EncryptedValue");
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.ecies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.io.BaseEncoding;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.EncryptedValueVisitor;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.LegacyEncryptedValue;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.KeyType;
+import com.palantir.config.crypto.algorithm.aes.AesEncryptedValue;
+import com.palantir.config.crypto.algorithm.rsa.RsaEncryptedValue;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+public class EciesEncrypterTest {
+    private static final KeyPair KEY_PAIR = Algorithm.ECIES.newKeyPair();
+
+    @Test
+    public void testKeysAndValueRoundTripThroughStrings() {
+        KeyWithType publicKey = KeyWithType.fromString(KEY_PAIR.encryptionKey().toString());
+        KeyWithType privateKey = KeyWithType.fromString(KEY_PAIR.decryptionKey().toString());
+        assertThat(publicKey.getType()).isEqualTo(KeyType.ECIES_PUBLIC);
+        assertThat(privateKey.getType()).isEqualTo(KeyType.ECIES_PRIVATE);
+        assertThat(publicKey.getKeyId()).isEqualTo(privateKey.getKeyId());
+
+        EncryptedValue value = EciesEncrypter.INSTANCE.encrypt(publicKey, "value");
+        EncryptedValue parsed = EncryptedValue.fromString(value.toString());
+
+        assertThat(parsed).isInstanceOf(EciesEncryptedValue.class).isEqualTo(value);
+        assertThat(((EciesEncryptedValue) parsed).getEphemeralPublicKey()).hasSize(X25519.KEY_SIZE_BYTES);
+        assertThat(((EciesEncryptedValue) parsed).getKeyId()).isEqualTo(publicKey.getKeyId());
+        assertThat(parsed.decrypt(privateKey)).isEqualTo("value");
+    }
+
+    @Test
+    public void testRejectsOtherPrivateKeysAndModifiedValues() {
+        EciesEncryptedValue value =
+                (EciesEncryptedValue) EciesEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+        byte[] ephemeralPublicKey = value.getEphemeralPublicKey();
+        ephemeralPublicKey[0] ^= 1;
+        EciesEncryptedValue modified =
+                ImmutableEciesEncryptedValue.copyOf(value).withEphemeralPublicKey(ephemeralPublicKey);
+
+        assertThatThrownBy(() -> modified.decrypt(KEY_PAIR.decryptionKey()))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThatThrownBy(() -> value.decrypt(Algorithm.ECIES.newKeyPair().decryptionKey()))
+                .hasMessageContaining("couldn't verify the message's authentication tag");
+        assertThatThrownBy(() -> value.decrypt(KEY_PAIR.encryptionKey())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testHkdfMatchesRfc5869() throws Exception {
+        // RFC 5869 appendix A.1
+        BaseEncoding hex = BaseEncoding.base16().lowerCase();
+        byte[] okm = Hkdf.deriveSha256(
+                hex.decode("0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b0b"),
+                hex.decode("000102030405060708090a0b0c"),
+                hex.decode("f0f1f2f3f4f5f6f7f8f9"),
+                42);
+        assertThat(hex.encode(okm))
+                .isEqualTo("3cb25f25faacd57a90434f64d0362f2a2d2d0a90cf1a5a4c5db02d56ecc4c5bf34007208d5b887185865");
+    }
+
+    @Test
+    public void testVisitorsWithoutEciesSupportRejectTheValue() {
+        EncryptedValue value = EciesEncrypter.INSTANCE.encrypt(KEY_PAIR.encryptionKey(), "value");
+        EncryptedValueVisitor<String> visitor = new EncryptedValueVisitor<>() {
+            @Override
+            public String visit(LegacyEncryptedValue _legacyEncryptedValue) {
+                return "legacy";
+            }
+
+            @Override
+            public String visit(AesEncryptedValue _aesEncryptedValue) {
+                return "aes";
+            }
+
+            @Override
+            public String visit(RsaEncryptedValue _rsaEncryptedValue) {
+                return "rsa";
+            }
+        };
+
+        assertThatThrownBy(() -> value.accept(visitor))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("EciesEncryptedValue");
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.base.Strings;
+import com.palantir.config.crypto.EncryptedValue;
+import com.palantir.config.crypto.KeyFileUtils;
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.Encrypter;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+public class RsaEnvelopeTest {
+    private static final KeyPair KEY_PAIR = Algorithm.RSA.newKeyPair();
+
+    @Test
+    public void testEnvelopeValuesRoundTripAndShareDataKey() {
+        Encrypter encrypter = RsaOaepEncrypter.envelope();
+        String large = Strings.repeat("secret", 1000);
+
+        RsaEncryptedValue first = (RsaEncryptedValue) encrypter.encrypt(KEY_PAIR.encryptionKey(), large);
+        RsaEncryptedValue second = (RsaEncryptedValue) encrypter.encrypt(KEY_PAIR.encryptionKey(), "small");
+
+        assertThat(first.getMode()).isEqualTo(RsaEncryptedValue.Mode.ENVELOPE);
+        assertThat(first.getWrappedKey()).isEqualTo(second.getWrappedKey());
+        assertThat(first.getIv()).isNotEqualTo(second.getIv());
+
+        EncryptedValue parsed = EncryptedValue.fromString(first.toString());
+        assertThat(parsed).isInstanceOf(RsaEncryptedValue.class);
+        assertThat(parsed.decrypt(KEY_PAIR.decryptionKey())).isEqualTo(large);
+        assertThat(second.decrypt(KEY_PAIR.decryptionKey())).isEqualTo("small");
+    }
+
+    @Test
+    public void testCachedDataKeyIsNotUsedForOtherKeys() {
+        KeyPair otherKeyPair = Algorithm.RSA.newKeyPair();
+        EncryptedValue value = RsaOaepEncrypter.envelope().encrypt(KEY_PAIR.encryptionKey(), "value");
+        assertThat(value.decrypt(KEY_PAIR.decryptionKey())).isEqualTo("value");
+
+        assertThatThrownBy(() -> value.decrypt(otherKeyPair.decryptionKey())).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void testRotatingKeysDiscardsCachedDataKeys() {
+        EncryptedValue value = RsaOaepEncrypter.envelope().encrypt(KEY_PAIR.encryptionKey(), "value");
+        assertThat(value.decrypt(KEY_PAIR.decryptionKey())).isEqualTo("value");
+        assertThat(RsaEnvelope.cachedDataKeys()).isPositive();
+
+        KeyFileUtils.invalidateKeyPairCache();
+        assertThat(RsaEnvelope.cachedDataKeys()).isZero();
+        assertThat(value.decrypt(KEY_PAIR.decryptionKey())).isEqualTo("value");
+    }
+
+    @Test
+    public void testEnvelopeFieldsMustMatchMode() {
+        assertThatThrownBy(() -> ImmutableRsaEncryptedValue.builder()
+                        .mode(RsaEncryptedValue.Mode.ENVELOPE)
+                        .ciphertext(new byte[16])
+                        .oaepHashAlg(RsaOaepEncrypter.HashAlgorithm.SHA256)
+                        .mdf1HashAlg(RsaOaepEncrypter.HashAlgorithm.SHA256)
+                        .build())
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.config.crypto.KeyPair;
+import com.palantir.config.crypto.KeyWithType;
+import com.palantir.config.crypto.algorithm.Algorithm;
+import com.palantir.config.crypto.algorithm.KeyType;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+public class RsaKeyEncodingTest {
+    private static final KeyPair KEY_PAIR = Algorithm.RSA.newKeyPair();
+
+    @Test
+    public void testDetectsPrivateAndPublicKeys() {
+        assertThat(RsaKeyEncoding.detect(KEY_PAIR.decryptionKey().getKey().bytes()))
+                .isEqualTo(RsaKeyEncoding.PKCS8);
+        assertThat(RsaKeyEncoding.detect(KEY_PAIR.encryptionKey().getKey().bytes()))
+                .isEqualTo(RsaKeyEncoding.X509);
+    }
+
+    @Test
+    public void testRejectsMalformedStructures() {
+        byte[] privateKey = KEY_PAIR.decryptionKey().getKey().bytes();
+        assertThat(RsaKeyEncoding.detect(new byte[0])).isEqualTo(RsaKeyEncoding.UNKNOWN);
+        assertThat(RsaKeyEncoding.detect(new byte[] {0x30, (byte) 0x84})).isEqualTo(RsaKeyEncoding.UNKNOWN);
+        assertThat(RsaKeyEncoding.detect(Arrays.copyOf(privateKey, privateKey.length - 1)))
+                .isEqualTo(RsaKeyEncoding.UNKNOWN);
+        assertThat(RsaKeyEncoding.detect(new byte[] {0x04, 0x01, 0x00})).isEqualTo(RsaKeyEncoding.UNKNOWN);
+    }
+
+    @Test
+    public void testParsesLegacyKeysByStructure() {
+        String encodedPrivateKey = KEY_PAIR.decryptionKey().toString().replace("RSA-PRIV:", "RSA:");
+        String encodedPublicKey = KEY_PAIR.encryptionKey().toString().replace("RSA-PUB:", "RSA:");
+
+        KeyWithType privateKey = KeyWithType.fromString(encodedPrivateKey);
+        KeyWithType publicKey = KeyWithType.fromString(encodedPublicKey);
+
+        assertThat(privateKey.getType()).isEqualTo(KeyType.RSA_PRIVATE);
+        assertThat(privateKey).isEqualTo(KEY_PAIR.decryptionKey());
+        assertThat(publicKey.getType()).isEqualTo(KeyType.RSA_PUBLIC);
+        assertThat(publicKey).isEqualTo(KEY_PAIR.encryptionKey());
+    }
+}
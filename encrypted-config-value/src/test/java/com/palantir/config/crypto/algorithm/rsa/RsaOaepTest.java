@@ -0,0 +1,39 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.algorithm.rsa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.config.crypto.algorithm.rsa.RsaOaepEncrypter.HashAlgorithm;
+import java.security.spec.MGF1ParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import org.junit.jupiter.api.Test;
+
+public class RsaOaepTest {
+    @Test
+    public void testParameterSpecsAreSharedPerHashCombination() {
+        OAEPParameterSpec spec = RsaOaep.parameterSpec(HashAlgorithm.SHA256, HashAlgorithm.SHA1);
+
+        assertThat(RsaOaep.parameterSpec(HashAlgorithm.SHA256, HashAlgorithm.SHA1))
+                .isSameAs(spec);
+        assertThat(spec.getDigestAlgorithm()).isEqualTo("SHA-256");
+        assertThat(((MGF1ParameterSpec) spec.getMGFParameters()).getDigestAlgorithm())
+                .isEqualTo("SHA-1");
+        assertThat(RsaOaep.parameterSpec(HashAlgorithm.SHA256, HashAlgorithm.SHA256))
+                .isNotSameAs(spec);
+    }
+}
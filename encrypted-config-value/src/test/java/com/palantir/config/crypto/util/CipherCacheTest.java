@@ -0,0 +1,76 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.config.crypto.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+
+public class CipherCacheTest {
+    private static final byte[] PLAINTEXT = "plaintext".getBytes(StandardCharsets.UTF_8);
+
+    private final CipherCache cache = CipherCache.forTransformation("AES/GCM/NoPadding");
+    private final SecretKey key = new SecretKeySpec(new byte[32], "AES");
+    private final SecretKey otherKey = new SecretKeySpec(new byte[16], "AES");
+
+    @Test
+    public void testReusesCipherPerKey() throws GeneralSecurityException {
+        Cipher first = cache.apply(Cipher.ENCRYPT_MODE, key, spec(1), cipher -> cipher);
+        Cipher second = cache.apply(Cipher.ENCRYPT_MODE, key, spec(2), cipher -> cipher);
+        Cipher other = cache.apply(Cipher.ENCRYPT_MODE, otherKey, spec(3), cipher -> cipher);
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+    }
+
+    @Test
+    public void testInvalidateAllDiscardsCachedCiphers() throws GeneralSecurityException {
+        Cipher first = cache.apply(Cipher.ENCRYPT_MODE, key, spec(5), cipher -> cipher);
+        CipherCache.invalidateAll();
+        Cipher second = cache.apply(Cipher.ENCRYPT_MODE, key, spec(6), cipher -> cipher);
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void testCipherIsUsableAfterFailedOperation() throws GeneralSecurityException {
+        GCMParameterSpec spec = spec(4);
+        byte[] ciphertext = cache.apply(Cipher.ENCRYPT_MODE, key, spec, cipher -> cipher.doFinal(PLAINTEXT));
+        byte[] tampered = Arrays.copyOf(ciphertext, ciphertext.length);
+        tampered[0] ^= 1;
+
+        assertThatThrownBy(() -> cache.apply(Cipher.DECRYPT_MODE, key, spec, cipher -> cipher.doFinal(tampered)))
+                .isInstanceOf(AEADBadTagException.class);
+        byte[] decrypted = cache.apply(Cipher.DECRYPT_MODE, key, spec, cipher -> cipher.doFinal(ciphertext));
+        assertThat(decrypted).isEqualTo(PLAINTEXT);
+    }
+
+    private static GCMParameterSpec spec(int iv) {
+        byte[] ivBytes = new byte[12];
+        ivBytes[0] = (byte) iv;
+        return new GCMParameterSpec(128, ivBytes);
+    }
+}